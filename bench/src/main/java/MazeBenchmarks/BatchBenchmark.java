@@ -0,0 +1,26 @@
+package MazeBenchmarks;
+
+import Maze.MazeBatch;
+import MazeGeneratorClasses.MazeType;
+
+/**
+ * Runs a {@link MazeBatch} and prints its throughput and latencies.
+ * Usage: BatchBenchmark [maze type, default RKruskalsGenerator] [maze side, default 64] [mazes, default 20000] [threads, default number of processors]
+ */
+public class BatchBenchmark {
+
+    public static void main(String[] args){
+        MazeType type=args.length>0 ? MazeType.valueOf(args[0]) : MazeType.RKruskalsGenerator;
+        int side=args.length>1 ? Integer.parseInt(args[1]) : 64;
+        int count=args.length>2 ? Integer.parseInt(args[2]) : 20000;
+        int threads=args.length>3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        //The first round is the warm-up
+        for(int r=0;r<2;r++){
+            MazeBatch batch=new MazeBatch(type, side, side, count, 42);
+            batch.setParallelism(threads);
+            long checksum=batch.generate().mapToLong(m -> m.getFingerprint()).reduce(0, (a, b) -> a^b);
+            System.out.println(batch.getStats()+" (checksum "+Long.toHexString(checksum)+")");
+        }
+    }
+}
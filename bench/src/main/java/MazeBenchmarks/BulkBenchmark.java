@@ -0,0 +1,76 @@
+package MazeBenchmarks;
+
+import Maze.GridStore;
+import Maze.PackedGridStore;
+import Maze.MazeView;
+import MazeGeneratorClasses.BinaryTreeGenerator;
+import MazeGeneratorClasses.EllersGenerator;
+import MazeGeneratorClasses.MazeGenerator;
+import MazeGeneratorClasses.RowSink;
+import MazeGeneratorClasses.SidewinderGenerator;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Measures how many small mazes the generators can produce, for bulk workloads like load-testing the solvers.
+ * Every maze is written into the same store, which is cleared in between, and the streaming generators also write into a sink that drops the rows.
+ * Usage: BulkBenchmark [maze side, default 16] [mazes per round, default 100000] [rounds, default 5]
+ */
+public class BulkBenchmark {
+
+    /**
+     * A generator of a whole maze, that may fail with an I/O error
+     */
+    private interface Generation {
+        void run() throws IOException;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int side=args.length>0 ? Integer.parseInt(args[0]) : 16;
+        int count=args.length>1 ? Integer.parseInt(args[1]) : 100000;
+        int rounds=args.length>2 ? Integer.parseInt(args[2]) : 5;
+
+        GridStore store=new PackedGridStore(side, side);
+        Random rnd=new Random(42);
+        //Keeps the rows alive, so they are not optimized away
+        long[] checksum={0};
+        RowSink drop=new RowSink(){
+            @Override
+            public void acceptRow(long y, int[] walls){
+                checksum[0]+=walls[0];
+            }
+        };
+
+        run("binary tree -> store", side, count, rounds, () -> {
+            store.clear();
+            new BinaryTreeGenerator(store, (MazeView) null).generateMaze();
+        });
+        run("sidewinder -> store", side, count, rounds, () -> {
+            store.clear();
+            new SidewinderGenerator(store, (MazeView) null).generateMaze();
+        });
+        run("backtracker -> store", side, count, rounds, () -> {
+            store.clear();
+            new MazeGenerator(store, (MazeView) null).generateMaze();
+        });
+        run("binary tree -> sink", side, count, rounds, () -> BinaryTreeGenerator.generateRows(side, side, drop, rnd));
+        run("sidewinder -> sink", side, count, rounds, () -> SidewinderGenerator.generateRows(side, side, drop, rnd));
+        run("eller -> sink", side, count, rounds, () -> EllersGenerator.generateRows(side, side, drop, rnd));
+        System.out.println("checksum "+checksum[0]);
+    }
+
+    private static void run(String name, int side, int count, int rounds, Generation generation) throws IOException {
+        double best=Double.MAX_VALUE;
+        //The first round is the warm-up
+        for(int r=0;r<=rounds;r++){
+            long start=System.nanoTime();
+            for(int i=0;i<count;i++)
+                generation.run();
+            double seconds=(System.nanoTime()-start)/1e9;
+            if(r>0)
+                best=Math.min(best, seconds);
+        }
+        System.out.printf("%-22s %dx%d: %,12.0f mazes/min%n", name, side, side, count/best*60);
+    }
+}
@@ -0,0 +1,82 @@
+package MazeBenchmarks;
+
+import Maze.CellLayout;
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.PackedGridStore;
+import Maze.RowMajorLayout;
+import Maze.TiledMortonLayout;
+import Maze.MazeView;
+import MazeGeneratorClasses.MazeGenerator;
+import MazeSolverClasses.AStarSolver;
+import MazeSolverClasses.BfsSolver;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Compares the row-major and the tiled Morton layout of the cells.
+ * The solvers run on the same maze in both layouts, the backtracker generates a new maze in every round.
+ * Usage: LayoutBenchmark [solver maze side, default 4096] [generator maze side, default 4096] [rounds, default 5]
+ */
+public class LayoutBenchmark {
+
+    public static void main(String[] args){
+        int side=args.length>0 ? Integer.parseInt(args[0]) : 4096;
+        int generatorSide=args.length>1 ? Integer.parseInt(args[1]) : 4096;
+        int rounds=args.length>2 ? Integer.parseInt(args[2]) : 5;
+
+        run("row-major", side, generatorSide, rounds, s -> new RowMajorLayout(s, s));
+        run("morton", side, generatorSide, rounds, s -> new TiledMortonLayout(s, s));
+    }
+
+    private static void run(String name, int side, int generatorSide, int rounds, IntFunction<CellLayout> layouts){
+        GridStore store=new PackedGridStore(layouts.apply(side));
+        carve(store, new Random(42));
+        BfsSolver bfs=new BfsSolver(null, 0);
+        AStarSolver aStar=new AStarSolver(null, 0, AStarSolver.Heuristic.MANHATTAN_DISTANCE);
+
+        System.out.printf("%-10s BFS %dx%d: %8.1f ms%n", name, side, side, time(rounds, () -> bfs.solvePath(store)));
+        System.out.printf("%-10s A* %dx%d: %8.1f ms%n", name, side, side, time(rounds, () -> aStar.solvePath(store)));
+        System.out.printf("%-10s backtracker %dx%d: %8.1f ms%n", name, generatorSide, generatorSide, time(rounds, () ->
+                new MazeGenerator(new PackedGridStore(layouts.apply(generatorSide)), (MazeView) null).generateMaze()));
+    }
+
+    /**
+     * Builds the same binary tree maze in any layout, as the cells are carved in the order of their coordinates.
+     * Every cell is connected to its northern or western neighbour, the exit is in the bottom right corner.
+     */
+    static void carve(GridStore store, Random rnd){
+        for(int y=0;y<store.getHeight();y++){
+            for(int x=0;x<store.getWidth();x++){
+                int idx=store.index(x,y);
+                if(y==0 && x==0)
+                    continue;
+                if(y==0 || (x>0 && rnd.nextBoolean()))
+                    store.openPassage(idx, Directions.West);
+                else
+                    store.openPassage(idx, Directions.North);
+            }
+        }
+        store.openWall(store.index(0,0), Directions.North.getBValue());
+        store.openWall(store.index(store.getWidth()-1, store.getHeight()-1), Directions.South.getBValue());
+    }
+
+    /**
+     * Runs the task twice to warm up, then returns the median of the given number of rounds.
+     * @return the median running time in milliseconds
+     */
+    static double time(int rounds, Runnable task){
+        task.run();
+        task.run();
+        double[] times=new double[rounds];
+        for(int i=0;i<rounds;i++){
+            long start=System.nanoTime();
+            task.run();
+            times[i]=(System.nanoTime()-start)/1e6;
+        }
+        Arrays.sort(times);
+        return times[rounds/2];
+    }
+}
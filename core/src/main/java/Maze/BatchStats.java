@@ -0,0 +1,102 @@
+package Maze;
+
+import java.util.Arrays;
+
+/**
+ * The throughput and the latencies of a {@link MazeBatch}.
+ * The latency of a maze is the time its generation took on its thread, the throughput is measured by the consumer of the stream,
+ * so it also contains the time the mazes waited for the consumer.
+ */
+public final class BatchStats {
+
+    /**
+     * The generation times of the mazes in nanoseconds, in increasing order
+     */
+    private final long[] latencies;
+    /**
+     * The time from the start of the batch until the last maze was taken, in nanoseconds
+     */
+    private final long elapsed;
+    /**
+     * The number of cells in a maze
+     */
+    private final long cellsPerMaze;
+
+    BatchStats(long[] latencies, long elapsed, long cellsPerMaze){
+        this.latencies=latencies;
+        Arrays.sort(this.latencies);
+        this.elapsed=elapsed;
+        this.cellsPerMaze=cellsPerMaze;
+    }
+
+    /**
+     * @return the number of generated mazes
+     */
+    public int getCount(){
+        return latencies.length;
+    }
+
+    /**
+     * @return {@link #elapsed}, the time from the start of the batch until the last maze was taken, in nanoseconds
+     */
+    public long getElapsedNanos(){
+        return elapsed;
+    }
+
+    /**
+     * @return the number of mazes generated per second
+     */
+    public double getMazesPerSecond(){
+        return elapsed>0 ? latencies.length*1e9/elapsed : 0;
+    }
+
+    /**
+     * @return the number of cells generated per second
+     */
+    public double getCellsPerSecond(){
+        return getMazesPerSecond()*cellsPerMaze;
+    }
+
+    /**
+     * @return the average generation time of a maze in nanoseconds
+     */
+    public double getMeanLatencyNanos(){
+        return latencies.length>0 ? Arrays.stream(latencies).average().getAsDouble() : 0;
+    }
+
+    /**
+     * Returns a percentile of the generation times, for example 50 for the median or 99 for the slowest percent.
+     * @param percentile a number between 0 and 100
+     * @return the generation time in nanoseconds, that the given percent of the mazes did not exceed
+     */
+    public long getLatencyPercentileNanos(double percentile){
+        if(!(percentile>=0 && percentile<=100))
+            throw new IllegalArgumentException("Invalid percentile: "+percentile);
+        if(latencies.length==0)
+            return 0;
+        //The nearest rank
+        int rank=(int)Math.ceil(percentile/100*latencies.length);
+        return latencies[Math.max(rank-1, 0)];
+    }
+
+    /**
+     * @return the fastest generation time in nanoseconds
+     */
+    public long getMinLatencyNanos(){
+        return getLatencyPercentileNanos(0);
+    }
+
+    /**
+     * @return the slowest generation time in nanoseconds
+     */
+    public long getMaxLatencyNanos(){
+        return getLatencyPercentileNanos(100);
+    }
+
+    @Override
+    public String toString(){
+        return String.format("%d mazes in %.3f s, %.1f mazes/s, %.3g cells/s, latency mean %.3f ms, p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+                getCount(), elapsed/1e9, getMazesPerSecond(), getCellsPerSecond(), getMeanLatencyNanos()/1e6,
+                getLatencyPercentileNanos(50)/1e6, getLatencyPercentileNanos(99)/1e6, getMaxLatencyNanos()/1e6);
+    }
+}
@@ -0,0 +1,59 @@
+package Maze;
+
+/**
+ * A store that wraps an already existing 2D array of MazeCell objects.
+ * Used when a generator or solver gets a plain MazeCell array instead of a store.
+ */
+public class CellArrayGridStore extends GridStore {
+
+    /**
+     * The wrapped 2D array
+     */
+    private final MazeCell[][] maze;
+
+    public CellArrayGridStore(MazeCell[][] maze){
+        super(maze[0].length, maze.length);
+        this.maze=maze;
+        recomputeFingerprint();
+    }
+
+    @Override
+    public int getWalls(int idx){
+        MazeCell cell=maze[getY(idx)][getX(idx)];
+        //The array may not have been filled yet
+        return cell==null ? 0 : cell.getOpenWalls();
+    }
+
+    @Override
+    public void setWalls(int idx, int walls){
+        MazeCell cell=maze[getY(idx)][getX(idx)];
+        int old=cell.getOpenWalls();
+        cell.closeWall(old);
+        cell.openWall(walls & 0xf);
+        flipped(idx, old ^ (walls & 0xf));
+    }
+
+    @Override
+    public void openWall(int idx, int w){
+        MazeCell cell=maze[getY(idx)][getX(idx)];
+        int changed=w & ~cell.getOpenWalls() & 0xf;
+        cell.openWall(changed);
+        flipped(idx, changed);
+    }
+
+    @Override
+    public void closeWall(int idx, int w){
+        MazeCell cell=maze[getY(idx)][getX(idx)];
+        int changed=w & cell.getOpenWalls();
+        cell.closeWall(changed);
+        flipped(idx, changed);
+    }
+
+    /**
+     * @return the wrapped array itself
+     */
+    @Override
+    public MazeCell[][] getCells(){
+        return maze;
+    }
+}
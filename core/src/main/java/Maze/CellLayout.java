@@ -0,0 +1,89 @@
+package Maze;
+
+import java.io.Serializable;
+
+/**
+ * Abstract base class of the layouts, that decide where the cells of a maze are placed in the memory of a {@link GridStore}.
+ * A layout maps the coordinates of a cell to an index and back. The indices go from 0 to {@link #capacity()}-1,
+ * but a layout may leave holes in this range, which are not cells of the maze (see {@link #isCell(int)}).
+ */
+public abstract class CellLayout implements Serializable {
+
+    /**
+     * The dimensions of the maze.
+     */
+    protected final int width, height;
+
+    protected CellLayout(int width, int height){
+        if(width<1 || height<1 || (long)width*height>Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Invalid maze size: "+width+"x"+height);
+        this.width=width;
+        this.height=height;
+    }
+
+    /**
+     * @return {@link #width}, the number of columns in the maze
+     */
+    public int getWidth(){return width;}
+    /**
+     * @return {@link #height}, the number of rows in the maze
+     */
+    public int getHeight(){return height;}
+
+    /**
+     * @return the number of indices used by the layout, including the holes.
+     * Arrays indexed by cell indices must have this length.
+     */
+    public abstract int capacity();
+
+    /**
+     * @param x The x coordinate of the cell
+     * @param y The y coordinate of the cell
+     * @return the index of the cell at the given coordinates
+     */
+    public abstract int index(int x, int y);
+    /**
+     * @param idx the index of a cell
+     * @return the x coordinate of the cell
+     */
+    public abstract int getX(int idx);
+    /**
+     * @param idx the index of a cell
+     * @return the y coordinate of the cell
+     */
+    public abstract int getY(int idx);
+
+    /**
+     * @param idx an index between 0 and {@link #capacity()}-1
+     * @return true if the index belongs to a cell of the maze, false if it is a hole of the layout
+     */
+    public boolean isCell(int idx){
+        return idx>=0 && idx<capacity() && getX(idx)<width && getY(idx)<height;
+    }
+
+    /**
+     * Returns the index of the neighbouring cell in the given direction.
+     * Layouts can override it, if they can step without converting the index to coordinates.
+     * @param idx the index of the current cell
+     * @param d the direction of the neighbour
+     * @return the index of the neighbour, or -1 if it would be outside the maze
+     */
+    public int neighbour(int idx, Directions d){
+        int x=getX(idx)+d.getXOffset();
+        int y=getY(idx)+d.getYOffset();
+        if(x<0 || x>=width || y<0 || y>=height)
+            return -1;
+        return index(x,y);
+    }
+
+    /**
+     * Collects the indices of all four neighbours of a cell at once, in the order of {@link Directions#values()}.
+     * Layouts can override it, if the neighbours share some of the work, like converting the index to coordinates.
+     * @param idx the index of the current cell
+     * @param neighbours an array of 4, that receives the index of the neighbour in each direction, or -1 if it would be outside the maze
+     */
+    public void neighbours(int idx, int[] neighbours){
+        for(Directions d : Directions.values())
+            neighbours[d.ordinal()]=neighbour(idx, d);
+    }
+}
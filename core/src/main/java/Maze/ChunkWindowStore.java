@@ -0,0 +1,171 @@
+package Maze;
+
+/**
+ * A rectangle of whole chunks of a {@link ChunkedMaze}, that can be used as a finite maze by the solvers.
+ * The cells are numbered in row-major order, and every read goes to the chunk that holds the cell.
+ * The chunks are fetched from the maze when they are first read, and the window keeps them until it is dropped,
+ * so the solvers do not go through the cache of the maze for every cell.
+ * The walls that lead out of the window are closed, and the store can not be written.
+ * The solvers that go through the MazeCell view of the store, like the Tremaux and the wall follower solvers, start and stop
+ * in the corners instead of the entrance and exit of the window, so only the solvers that work on the store should be used.
+ */
+public class ChunkWindowStore extends GridStore {
+
+    /**
+     * The maze that holds the chunks
+     */
+    private final ChunkedMaze maze;
+    /**
+     * The side of a chunk
+     */
+    private final int chunkSize;
+    /**
+     * The position of the top left chunk of the window, and the number of chunks in a row of the window
+     */
+    private final int cx0, cy0, chunksX;
+    /**
+     * The chunks of the window in row-major order, null until they are first read.
+     * Reading a chunk twice from different threads is harmless, both get the same maze.
+     */
+    private final GridStore[] chunks;
+    /**
+     * The indices of the entrance and the exit
+     */
+    private int entrance, exit;
+    /**
+     * Whether the fingerprint was computed. It is only computed when asked for, as it reads every chunk.
+     */
+    private volatile boolean fingerprinted=false;
+
+    /**
+     * @param maze the maze that holds the chunks
+     * @param cx0 the column of the top left chunk
+     * @param cy0 the row of the top left chunk
+     * @param chunksX the number of chunks in a row
+     * @param chunksY the number of chunks in a column
+     */
+    public ChunkWindowStore(ChunkedMaze maze, int cx0, int cy0, int chunksX, int chunksY){
+        super(layout(maze, chunksX, chunksY));
+        this.maze=maze;
+        this.chunkSize=maze.getChunkSize();
+        this.cx0=cx0;
+        this.cy0=cy0;
+        this.chunksX=chunksX;
+        chunks=new GridStore[chunksX*chunksY];
+        entrance=0;
+        exit=index(width-1, height-1);
+    }
+
+    /**
+     * Checks that the window fits into the index range of a store.
+     * @return the row-major layout of the window
+     */
+    private static CellLayout layout(ChunkedMaze maze, int chunksX, int chunksY){
+        if(chunksX<1 || chunksY<1)
+            throw new IllegalArgumentException("Invalid window size: "+chunksX+"x"+chunksY);
+        int width=Math.multiplyExact(chunksX, maze.getChunkSize());
+        int height=Math.multiplyExact(chunksY, maze.getChunkSize());
+        Math.multiplyExact(width, height);
+        return new RowMajorLayout(width, height);
+    }
+
+    /**
+     * @param idx the index of a cell of the window
+     * @return the x coordinate of the cell in the maze
+     */
+    public int getWorldX(int idx){
+        return cx0*chunkSize+getX(idx);
+    }
+
+    /**
+     * @param idx the index of a cell of the window
+     * @return the y coordinate of the cell in the maze
+     */
+    public int getWorldY(int idx){
+        return cy0*chunkSize+getY(idx);
+    }
+
+    /**
+     * @param x the x coordinate of a cell in the maze
+     * @param y the y coordinate of a cell in the maze
+     * @return the index of the cell in the window
+     */
+    public int worldIndex(int x, int y){
+        int wx=x-cx0*chunkSize, wy=y-cy0*chunkSize;
+        if(wx<0 || wy<0 || wx>=width || wy>=height)
+            throw new IllegalArgumentException("The cell is outside of the window: "+x+", "+y);
+        return index(wx, wy);
+    }
+
+    /**
+     * Sets the cell where the solvers start.
+     * @param x the x coordinate of the cell in the maze
+     * @param y the y coordinate of the cell in the maze
+     */
+    void setEntrance(int x, int y){
+        entrance=worldIndex(x, y);
+    }
+
+    /**
+     * Sets the cell the solvers look for.
+     * @param x the x coordinate of the cell in the maze
+     * @param y the y coordinate of the cell in the maze
+     */
+    void setExit(int x, int y){
+        exit=worldIndex(x, y);
+    }
+
+    @Override
+    public int findEntrance(){
+        return entrance;
+    }
+
+    @Override
+    public int findExit(){
+        return exit;
+    }
+
+    @Override
+    public int getWalls(int idx){
+        int x=getX(idx), y=getY(idx);
+        int slot=(y/chunkSize)*chunksX+x/chunkSize;
+        GridStore chunk=chunks[slot];
+        if(chunk==null){
+            chunk=maze.getChunk(cx0+x/chunkSize, cy0+y/chunkSize);
+            chunks[slot]=chunk;
+        }
+        int walls=chunk.getWalls(chunk.index(x%chunkSize, y%chunkSize));
+        //The passages that lead out of the window are closed
+        if(y==0)
+            walls&=~Directions.North.getBValue();
+        if(x==width-1)
+            walls&=~Directions.East.getBValue();
+        if(y==height-1)
+            walls&=~Directions.South.getBValue();
+        if(x==0)
+            walls&=~Directions.West.getBValue();
+        return walls;
+    }
+
+    /**
+     * The maze can not be changed, as the changes would be lost when the chunk is evicted.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setWalls(int idx, int walls){
+        throw new UnsupportedOperationException("A chunked maze can not be changed");
+    }
+
+    @Override
+    public long fingerprint(){
+        if(!fingerprinted){
+            synchronized(this){
+                if(!fingerprinted){
+                    recomputeFingerprint();
+                    fingerprinted=true;
+                }
+            }
+        }
+        return super.fingerprint();
+    }
+}
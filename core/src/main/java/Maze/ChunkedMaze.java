@@ -0,0 +1,267 @@
+package Maze;
+
+import MazeGeneratorClasses.MazeType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An infinite maze, that is cut into square chunks, and only the chunks that were accessed are kept in memory.
+ * A chunk is generated on its first access, by a generator of the chunk type, with a seed that only depends on the seed
+ * of the maze and the position of the chunk. So an evicted chunk is generated again exactly the same way.
+ * Every chunk is a perfect maze on its own, and every border between two chunks has one passage, whose position is also
+ * computed from the seeds, so the two chunks agree on it without looking at each other.
+ * The maze is connected, but the passages between the chunks make loops, so it is not perfect.
+ * <p>
+ * Only the last {@link #maxChunks} chunks that were used are kept. The maze can not be changed, because the changes
+ * would be lost when the chunk is evicted. The solvers work on a {@link ChunkWindowStore}, a rectangle of whole chunks.
+ */
+public class ChunkedMaze {
+
+    /**
+     * The side of a chunk, if nothing else is given.
+     */
+    public static final int DEFAULT_CHUNK_SIZE=64;
+    /**
+     * The number of chunks kept in memory, if nothing else is given.
+     */
+    public static final int DEFAULT_MAX_CHUNKS=1024;
+
+    /**
+     * The type of the generators of the chunks
+     */
+    private final MazeType chunkType;
+    /**
+     * The side of a chunk in cells
+     */
+    private final int chunkSize;
+    /**
+     * The seed of the maze, from which the seeds of the chunks and the passages between them are computed
+     */
+    private final long seed;
+    /**
+     * The maximum number of chunks kept in memory
+     */
+    private final int maxChunks;
+    /**
+     * The chunks in memory by their key (see {@link #key(int, int)}), from the least recently used to the most recently used.
+     */
+    private final LinkedHashMap<Long, GridStore> chunks;
+    /**
+     * The number of chunks generated and evicted so far
+     */
+    private long generated=0, evicted=0;
+
+    public ChunkedMaze(long seed){
+        this(MazeType.RKruskalsGenerator, DEFAULT_CHUNK_SIZE, DEFAULT_MAX_CHUNKS, seed);
+    }
+
+    /**
+     * @param chunkType the type of the generators of the chunks
+     * @param chunkSize the side of a chunk in cells
+     * @param maxChunks the maximum number of chunks kept in memory
+     * @param seed the seed of the maze
+     */
+    public ChunkedMaze(MazeType chunkType, int chunkSize, int maxChunks, long seed){
+        if(chunkSize<2)
+            throw new IllegalArgumentException("Invalid chunk size: "+chunkSize);
+        if(maxChunks<1)
+            throw new IllegalArgumentException("Invalid chunk budget: "+maxChunks);
+        this.chunkType=chunkType;
+        this.chunkSize=chunkSize;
+        this.maxChunks=maxChunks;
+        this.seed=seed;
+        //An access ordered map, that drops the least recently used chunk when the budget is exceeded
+        chunks=new LinkedHashMap<>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, GridStore> eldest){
+                if(size()<=ChunkedMaze.this.maxChunks)
+                    return false;
+                evicted++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * @return {@link #chunkType}, the type of the generators of the chunks
+     */
+    public MazeType getChunkType(){
+        return chunkType;
+    }
+
+    /**
+     * @return {@link #chunkSize}, the side of a chunk in cells
+     */
+    public int getChunkSize(){
+        return chunkSize;
+    }
+
+    /**
+     * @return {@link #seed}, the seed of the maze
+     */
+    public long getSeed(){
+        return seed;
+    }
+
+    /**
+     * @return {@link #maxChunks}, the maximum number of chunks kept in memory
+     */
+    public int getMaxChunks(){
+        return maxChunks;
+    }
+
+    /**
+     * @return the number of chunks currently in memory
+     */
+    public synchronized int getResidentChunks(){
+        return chunks.size();
+    }
+
+    /**
+     * @return the number of chunks generated so far, counting the ones that were generated again after an eviction
+     */
+    public synchronized long getGeneratedChunks(){
+        return generated;
+    }
+
+    /**
+     * @return the number of chunks evicted so far
+     */
+    public synchronized long getEvictedChunks(){
+        return evicted;
+    }
+
+    /**
+     * @param x the x coordinate of a cell, may be negative
+     * @return the column of the chunk that contains the cell
+     */
+    public int chunkX(int x){
+        return Math.floorDiv(x, chunkSize);
+    }
+
+    /**
+     * @param y the y coordinate of a cell, may be negative
+     * @return the row of the chunk that contains the cell
+     */
+    public int chunkY(int y){
+        return Math.floorDiv(y, chunkSize);
+    }
+
+    /**
+     * @param x the x coordinate of a cell, may be negative
+     * @param y the y coordinate of a cell, may be negative
+     * @return the open walls of the cell, as a 4 bit number
+     */
+    public int getWalls(int x, int y){
+        GridStore chunk=getChunk(chunkX(x), chunkY(y));
+        return chunk.getWalls(chunk.index(Math.floorMod(x, chunkSize), Math.floorMod(y, chunkSize)));
+    }
+
+    /**
+     * @param x the x coordinate of a cell
+     * @param y the y coordinate of a cell
+     * @param d a direction
+     * @return true if the cell has an open wall in the given direction
+     */
+    public boolean isOpen(int x, int y, Directions d){
+        return (getWalls(x, y) & d.getBValue())!=0;
+    }
+
+    /**
+     * Returns a chunk, and marks it as the most recently used one. If the chunk is not in memory, it is generated,
+     * and the least recently used chunk is evicted if there are too many.
+     * The returned store must not be written.
+     * @param cx the column of the chunk
+     * @param cy the row of the chunk
+     * @return the store of the chunk
+     */
+    public synchronized GridStore getChunk(int cx, int cy){
+        long key=key(cx, cy);
+        GridStore chunk=chunks.get(key);
+        if(chunk==null){
+            chunk=generateChunk(cx, cy);
+            generated++;
+            chunks.put(key, chunk);
+        }
+        return chunk;
+    }
+
+    /**
+     * Generates a chunk from its own seed, then replaces the entrance and the exit of the generator with the passages
+     * towards the four neighbouring chunks.
+     * @param cx the column of the chunk
+     * @param cy the row of the chunk
+     * @return the store of the new chunk
+     */
+    private GridStore generateChunk(int cx, int cy){
+        GridStore chunk=new PackedGridStore(chunkSize, chunkSize);
+        chunkType.createGenerator(chunk, null, 0).generateMaze(mix(seed ^ mix(key(cx, cy))));
+
+        int last=chunkSize-1;
+        for(int i=0;i<chunkSize;i++){
+            chunk.closeWall(chunk.index(i,0), Directions.North.getBValue());
+            chunk.closeWall(chunk.index(i,last), Directions.South.getBValue());
+            chunk.closeWall(chunk.index(0,i), Directions.West.getBValue());
+            chunk.closeWall(chunk.index(last,i), Directions.East.getBValue());
+        }
+        //The northern border is the southern border of the chunk above, the western border is the eastern border of the chunk on the left
+        chunk.openWall(chunk.index(door(cx, cy-1, Directions.South),0), Directions.North.getBValue());
+        chunk.openWall(chunk.index(door(cx, cy, Directions.South),last), Directions.South.getBValue());
+        chunk.openWall(chunk.index(0,door(cx-1, cy, Directions.East)), Directions.West.getBValue());
+        chunk.openWall(chunk.index(last,door(cx, cy, Directions.East)), Directions.East.getBValue());
+        return chunk;
+    }
+
+    /**
+     * Returns the position of the passage on the eastern or southern border of a chunk.
+     * It is the same for both chunks of the border, as it only depends on the seed and the position of the border.
+     * @param cx the column of the chunk
+     * @param cy the row of the chunk
+     * @param d East or South
+     * @return the row of the passage on the eastern border, or the column of the passage on the southern border, inside the chunk
+     */
+    private int door(int cx, int cy, Directions d){
+        long hash=mix(seed+mix(key(cx, cy)*2+(d==Directions.East ? 0 : 1)));
+        return (int)Math.floorMod(hash, (long)chunkSize);
+    }
+
+    /**
+     * @param cx the column of a chunk
+     * @param cy the row of a chunk
+     * @return a single number that identifies the chunk
+     */
+    private static long key(int cx, int cy){
+        return (long)cx<<32 | (cy & 0xffffffffL);
+    }
+
+    /**
+     * The SplitMix64 mixing function, it turns similar numbers into very different ones.
+     * @param z a number
+     * @return the mixed number
+     */
+    private static long mix(long z){
+        z+=0x9e3779b97f4a7c15L;
+        z=(z ^ (z>>>30))*0xbf58476d1ce4e5b9L;
+        z=(z ^ (z>>>27))*0x94d049bb133111ebL;
+        return z ^ (z>>>31);
+    }
+
+    /**
+     * Returns a finite part of the maze, that the solvers can walk through, with the given cells as its entrance and exit.
+     * The part is the smallest rectangle of whole chunks that contains both cells, so there is always a path between them.
+     * @param fromX the x coordinate of the entrance
+     * @param fromY the y coordinate of the entrance
+     * @param toX the x coordinate of the exit
+     * @param toY the y coordinate of the exit
+     * @return the store of the part of the maze
+     */
+    public ChunkWindowStore window(int fromX, int fromY, int toX, int toY){
+        int cx0=Math.min(chunkX(fromX), chunkX(toX)), cx1=Math.max(chunkX(fromX), chunkX(toX));
+        int cy0=Math.min(chunkY(fromY), chunkY(toY)), cy1=Math.max(chunkY(fromY), chunkY(toY));
+        ChunkWindowStore window=new ChunkWindowStore(this, cx0, cy0, cx1-cx0+1, cy1-cy0+1);
+        window.setEntrance(fromX, fromY);
+        window.setExit(toX, toY);
+        return window;
+    }
+}
@@ -41,6 +41,16 @@ public enum Directions {
      */
     public int getBValue(){return bValue;}
 
+    /**
+     * Returns the direction facing the opposite way.
+     * Shifting the bit value by two places (and "shifting in" the overflowing bits) turns it by 180°,
+     * just like in {@link MazeCell#openOppositeWall(int)}.
+     * @return the opposite direction
+     */
+    public Directions getOpposite(){
+        return getDirectionFromValue((bValue<<2)%15);
+    }
+
 
     /**
      * Calculates the offset direction
@@ -0,0 +1,57 @@
+package Maze;
+
+/**
+ * An immutable version of a {@link PersistentGridStore}.
+ * It shares its chunks with the store and the other versions, which is safe, as none of them ever changes a published chunk.
+ * Any number of threads can read it, while the store is being written.
+ */
+public class GridSnapshot extends GridStore {
+
+    /**
+     * The chunks of this version
+     */
+    private final long[][] chunks;
+    /**
+     * The number of this version
+     */
+    private final int version;
+
+    GridSnapshot(CellLayout layout, long[][] chunks, int version, long fingerprint){
+        super(layout);
+        this.chunks=chunks;
+        this.version=version;
+        setFingerprint(fingerprint);
+    }
+
+    /**
+     * @return {@link #version}, the number of this version
+     */
+    public int getVersion(){
+        return version;
+    }
+
+    @Override
+    public int getWalls(int idx){
+        return (int)(chunks[PersistentGridStore.chunkOf(idx)][PersistentGridStore.wordOf(idx)] >>> ((idx & 0xf)<<2)) & 0xf;
+    }
+
+    @Override
+    public void setWalls(int idx, int walls){
+        throw new UnsupportedOperationException("A snapshot of a maze can not be modified");
+    }
+
+    @Override
+    public void openWall(int idx, int w){
+        throw new UnsupportedOperationException("A snapshot of a maze can not be modified");
+    }
+
+    @Override
+    public void closeWall(int idx, int w){
+        throw new UnsupportedOperationException("A snapshot of a maze can not be modified");
+    }
+
+    @Override
+    public void clear(){
+        throw new UnsupportedOperationException("A snapshot of a maze can not be modified");
+    }
+}
@@ -0,0 +1,335 @@
+package Maze;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Abstract base class of the storages that can hold the walls of a maze.
+ * A store only keeps the four wall bits of every cell, using the same encoding as {@link MazeCell#getOpenWalls()}
+ * and {@link Directions#getBValue()}. The cells are addressed by a single int index instead of MazeCell objects,
+ * so the generators and solvers can work on huge mazes without allocating an object for each cell.
+ * Where a cell is placed in the store is decided by its {@link CellLayout}.
+ */
+public abstract class GridStore implements Serializable {
+
+    /**
+     * Used for updating the fingerprint atomically, as several threads may write the same maze.
+     */
+    private static final VarHandle FINGERPRINT;
+    static{
+        try{
+            FINGERPRINT=MethodHandles.lookup().findVarHandle(GridStore.class, "fingerprint", long.class);
+        }
+        catch(ReflectiveOperationException e){
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The dimensions of the maze.
+     */
+    protected final int width, height;
+    /**
+     * The layout that maps the coordinates of the cells to indices
+     */
+    protected final CellLayout layout;
+
+    /**
+     * The MazeCell view of the store. It is only created when someone asks for it.
+     */
+    private transient MazeCell[][] cells;
+    /**
+     * The visited flags of the cells, created on the first use.
+     */
+    private transient VisitMarks visitMarks;
+    /**
+     * The Zobrist fingerprint of the maze: the XOR of the keys of every open wall.
+     * Every write XORs the keys of the walls it flipped, so it is always up-to-date, and reading it costs nothing.
+     */
+    private volatile long fingerprint;
+
+    protected GridStore(int width, int height){
+        this(new RowMajorLayout(width, height));
+    }
+    protected GridStore(CellLayout layout){
+        this.layout=layout;
+        this.width=layout.getWidth();
+        this.height=layout.getHeight();
+    }
+
+    /**
+     * @return {@link #width}, the number of columns in the maze
+     */
+    public int getWidth(){return width;}
+    /**
+     * @return {@link #height}, the number of rows in the maze
+     */
+    public int getHeight(){return height;}
+
+    /**
+     * @return {@link #layout}, the layout of the cells in the store
+     */
+    public CellLayout getLayout(){return layout;}
+
+    /**
+     * @return the number of cells in the maze
+     */
+    public int size(){return width*height;}
+
+    /**
+     * @return the number of indices in the store. Every cell index is between 0 and capacity()-1,
+     * but depending on the layout, not every index is a cell.
+     */
+    public int capacity(){return layout.capacity();}
+
+    /**
+     * @param idx an index between 0 and {@link #capacity()}-1
+     * @return true if the index belongs to a cell, false if it is a hole of the layout
+     */
+    public boolean isCell(int idx){return layout.isCell(idx);}
+
+    /**
+     * @param x The x coordinate of the cell
+     * @param y The y coordinate of the cell
+     * @return the index of the cell at the given coordinates
+     */
+    public int index(int x, int y){return layout.index(x,y);}
+    /**
+     * @param idx the index of a cell
+     * @return the x coordinate of the cell
+     */
+    public int getX(int idx){return layout.getX(idx);}
+    /**
+     * @param idx the index of a cell
+     * @return the y coordinate of the cell
+     */
+    public int getY(int idx){return layout.getY(idx);}
+
+    /**
+     * Returns the index of the neighbouring cell in the given direction.
+     * @param idx the index of the current cell
+     * @param d the direction of the neighbour
+     * @return the index of the neighbour, or -1 if it would be outside the maze
+     */
+    public int neighbour(int idx, Directions d){return layout.neighbour(idx, d);}
+
+    /**
+     * Collects the indices of all four neighbours of a cell, in the order of {@link Directions#values()}.
+     * @param idx the index of the current cell
+     * @param neighbours an array of 4, that receives the index of the neighbour in each direction, or -1 if it would be outside the maze
+     */
+    public void neighbours(int idx, int[] neighbours){layout.neighbours(idx, neighbours);}
+
+    /**
+     * @param idx the index of a cell
+     * @return the open walls of the cell, as a 4 bit number
+     */
+    public abstract int getWalls(int idx);
+
+    /**
+     * Overwrites all four walls of a cell.
+     * @param idx the index of a cell
+     * @param walls the new walls of the cell, as a 4 bit number
+     */
+    public abstract void setWalls(int idx, int walls);
+
+    /**
+     * @return the fingerprint of the maze. Two stores with the same layout and the same open walls have the same fingerprint,
+     * and different mazes have different fingerprints with a very high probability.
+     */
+    public long fingerprint(){
+        return fingerprint;
+    }
+
+    /**
+     * Returns the random key of a wall. The keys are generated by the SplitMix64 function from the position of the wall,
+     * so they do not have to be stored.
+     * @param idx the index of a cell
+     * @param bit the index of the wall bit, between 0 and 3
+     * @return the key of the wall
+     */
+    static long wallKey(int idx, int bit){
+        long z=((long)idx<<2 | bit)*0x9e3779b97f4a7c15L+0x9e3779b97f4a7c15L;
+        z=(z ^ (z>>>30))*0xbf58476d1ce4e5b9L;
+        z=(z ^ (z>>>27))*0x94d049bb133111ebL;
+        return z ^ (z>>>31);
+    }
+
+    /**
+     * Updates the fingerprint after some walls of a cell have been flipped.
+     * The stores must call it with the bits that were actually changed by a write.
+     * @param idx the index of a cell
+     * @param changed the bit values of the walls that were opened or closed
+     */
+    protected final void flipped(int idx, int changed){
+        if(changed==0)
+            return;
+        long keys=0;
+        for(int bit=0;bit<4;bit++){
+            if((changed & (1<<bit))!=0)
+                keys^=wallKey(idx, bit);
+        }
+        FINGERPRINT.getAndBitwiseXor(this, keys);
+    }
+
+    /**
+     * Overwrites the fingerprint, for example after every wall has been closed.
+     * @param fingerprint the new fingerprint
+     */
+    protected final void setFingerprint(long fingerprint){
+        this.fingerprint=fingerprint;
+    }
+
+    /**
+     * Computes the fingerprint from scratch, by checking every cell.
+     * Only needed when the walls were loaded from somewhere else, like a mapped file.
+     */
+    protected final void recomputeFingerprint(){
+        long keys=0;
+        for(int idx=0;idx<capacity();idx++){
+            int walls=getWalls(idx);
+            for(int bit=0;bit<4;bit++){
+                if((walls & (1<<bit))!=0)
+                    keys^=wallKey(idx, bit);
+            }
+        }
+        fingerprint=keys;
+    }
+
+    /**
+     * Opens up the given walls of a cell.
+     * @param idx the index of a cell
+     * @param w the bit values of the walls that should be opened
+     */
+    public void openWall(int idx, int w){
+        setWalls(idx, getWalls(idx) | w);
+    }
+
+    /**
+     * Closes the given walls of a cell.
+     * @param idx the index of a cell
+     * @param w the bit values of the walls that should be closed
+     */
+    public void closeWall(int idx, int w){
+        setWalls(idx, getWalls(idx) & ~w);
+    }
+
+    /**
+     * @param idx the index of a cell
+     * @param d a direction
+     * @return true if the cell has an open wall in the given direction
+     */
+    public boolean isOpen(int idx, Directions d){
+        return (getWalls(idx) & d.getBValue())!=0;
+    }
+
+    /**
+     * Opens up the wall between a cell and its neighbour in the given direction.
+     * As every wall is stored in both cells, both of them are updated.
+     * @param idx the index of the cell
+     * @param d the direction of the neighbour
+     */
+    public void openPassage(int idx, Directions d){
+        openWall(idx, d.getBValue());
+        openWall(neighbour(idx, d), d.getOpposite().getBValue());
+    }
+
+    /**
+     * Closes the wall between a cell and its neighbour in the given direction, in both cells.
+     * @param idx the index of the cell
+     * @param d the direction of the neighbour
+     */
+    public void closePassage(int idx, Directions d){
+        closeWall(idx, d.getBValue());
+        closeWall(neighbour(idx, d), d.getOpposite().getBValue());
+    }
+
+    /**
+     * Closes every wall in the maze.
+     */
+    public void clear(){
+        for(int i=0;i<capacity();i++)
+            setWalls(i, 0);
+    }
+
+    /**
+     * Returns an immutable version of the maze, that can be read while the store is being written.
+     * Stores that do not keep versions return themselves, so they must not be written while they are read.
+     * @return the last published version of the maze
+     */
+    public GridStore snapshot(){
+        return this;
+    }
+
+    /**
+     * Makes the current state of the store available through {@link #snapshot()}.
+     * Does nothing for stores that do not keep versions.
+     */
+    public void publish(){
+    }
+
+    /**
+     * The entrance of a maze is its top left cell.
+     * @return the index of the entrance
+     */
+    public int findEntrance(){
+        return index(0,0);
+    }
+
+    /**
+     * The exit of a maze is the cell in the last row that has an open southern wall.
+     * @return the index of the exit, or -1 if the maze has none
+     */
+    public int findExit(){
+        for(int column=0;column<width;column++){
+            int idx=index(column, height-1);
+            if(isOpen(idx, Directions.South))
+                return idx;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the visited flags of the cells. They are shared by everything that works on this store,
+     * so they have to be cleared with {@link VisitMarks#clear()} before a new pass.
+     * They are created on the first call, so stores that never need them do not allocate them.
+     * @return the visited flags of the cells
+     */
+    public synchronized VisitMarks getVisitMarks(){
+        if(visitMarks==null)
+            visitMarks=new VisitMarks(capacity());
+        return visitMarks;
+    }
+
+    /**
+     * Returns a 2D array of MazeCell objects, that read and write the walls of this store.
+     * It is kept for the parts of the program that still work with MazeCell objects.
+     * The array is created on the first call, so mazes that are only used through the store never allocate it.
+     * @return the MazeCell view of the store
+     */
+    public synchronized MazeCell[][] getCells(){
+        if(cells==null){
+            MazeCell[][] view=new MazeCell[height][width];
+            for(int row=0;row<height;row++){
+                for(int column=0;column<width;column++){
+                    view[row][column]=new MazeCell(this, index(column,row));
+                }
+            }
+            cells=view;
+        }
+        return cells;
+    }
+
+    /**
+     * Returns the store behind a 2D array of cells.
+     * If the cells are a view of a store, that store is returned, otherwise the array is wrapped into a new store.
+     * @param maze a 2D array of cells
+     * @return a store which reads and writes the walls of the given cells
+     */
+    public static GridStore of(MazeCell[][] maze){
+        if(maze.length>0 && maze[0].length>0 && maze[0][0]!=null && maze[0][0].getStore()!=null)
+            return maze[0][0].getStore();
+        return new CellArrayGridStore(maze);
+    }
+}
@@ -0,0 +1,280 @@
+package Maze;
+
+import MazeExceptions.NoMazeGeneratorFoundException;
+import MazeExceptions.NoMazeSolverFoundException;
+import MazeGeneratorClasses.MazeGenerator;
+import MazeSolverClasses.MazeSolver;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Queue;
+
+/**
+ * A class that represent a single maze. It stores the store in which our actual maze is kept,
+ * the generator which generates the maze and a solver that can solve it.
+ * If the maze can be regenerated from its seed, only the generator, the layout and the seed are saved,
+ * and the walls are generated again when the loaded maze is first used.
+ */
+public final class Maze implements Serializable{
+    /**
+     * The store in which we keep the walls of the cells that make up our maze.
+     * It is null after loading a maze that was saved as its seed, until it is regenerated.
+     */
+    private transient volatile GridStore store;
+    /**
+     * The MazeSolver object which will handle the solving. It is saved without the state of its last solution.
+     */
+    private transient MazeSolver solver=null;
+    /**
+     * A MazeGenerator object that generates the maze
+     */
+    private MazeGenerator generator=null;
+    /**
+     * The seed of the last generated maze
+     */
+    private long seed;
+    /**
+     * The fingerprint of the last generated maze. If the walls still match it, the maze can be saved as its seed.
+     */
+    private long generatedFingerprint;
+    /**
+     * Whether the walls were generated by a generator, whose mazes can be regenerated from their seed.
+     */
+    private boolean reproducible=false;
+    /**
+     * The layout of a loaded maze, that is regenerated on its first use.
+     */
+    private transient CellLayout layout;
+
+    /**
+     * Returns the maze as a 2D array of cells. It is only a view of {@link Maze#store}, kept for compatibility:
+     * the cells are created on the first call, and they read and write the walls of the store.
+     * @return the 2D array that represents our maze
+     */
+    public MazeCell[][] getMaze(){
+        return getStore().getCells();
+    }
+
+    /**
+     * Returns the store of the maze. If the maze was loaded from its seed, it is regenerated first.
+     * @return the GridStore {@link Maze#store}, that holds the walls of the maze
+     */
+    public GridStore getStore(){
+        GridStore s=store;
+        return s!=null ? s : regenerate();
+    }
+
+    /**
+     * Regenerates the walls of a loaded maze from its seed, with the generator it was saved with.
+     * @return the new store of the maze
+     */
+    private synchronized GridStore regenerate(){
+        if(store==null){
+            GridStore s=new PersistentGridStore(layout);
+            generator.setStore(s);
+            generator.resetMaze();
+            //Nothing is drawn while a loaded maze is regenerated
+            StepListener listener=generator.stepListener();
+            generator.setStepListener(StepListener.NONE);
+            try{
+                generator.generateMaze(seed);
+            }
+            finally{
+                generator.setStepListener(listener);
+            }
+            s.publish();
+            if(s.fingerprint()!=generatedFingerprint)
+                throw new IllegalStateException("The maze could not be regenerated from seed "+seed);
+            store=s;
+        }
+        return store;
+    }
+
+    /**
+     * Returns the content fingerprint of the maze. It is kept up-to-date by every wall change, so reading it costs nothing,
+     * and it can be used as a cache key or for finding duplicate mazes.
+     * @return the 64 bit fingerprint of the walls of the maze
+     */
+    public long getFingerprint(){
+        return getStore().fingerprint();
+    }
+
+    /**
+     * Returns the last published version of the maze. It never changes, even if the maze is being regenerated,
+     * so it can be drawn or solved from any thread.
+     * @return an immutable version of the maze
+     */
+    public GridStore getSnapshot(){
+        return getStore().snapshot();
+    }
+    /**
+     * @return the MazeSolver {@link Maze#solver}
+     */
+    public MazeSolver getSolver(){
+        return solver;
+    }
+    /**
+     * @return the MazeGenerator {@link Maze#generator}
+     */
+    public MazeGenerator getGenerator(){
+        return generator;
+    }
+
+
+    public Maze(int width, int height){
+        this(new PersistentGridStore(width, height));
+    }
+
+    /**
+     * Creates a maze with the given layout of cells, for example a {@link TiledMortonLayout} for huge mazes.
+     * @param layout the layout of the cells, which also knows the dimensions of the maze
+     */
+    public Maze(CellLayout layout){
+        this(new PersistentGridStore(layout));
+    }
+    public Maze(GridStore store){
+        this.store=store;
+    }
+    public <T extends MazeGenerator> void addGenerator(T g){
+        generator=g.clone();
+        if(g.isSeedFixed())
+            generator.setSeed(g.getSeed());
+        //The listener is not cloned, the copy notifies the same one
+        generator.setStepListener(g.stepListener());
+    }
+
+    /**
+     * @return the seed of the last generated maze, the same seed generates the same maze again
+     */
+    public long getSeed(){
+        return seed;
+    }
+
+    /**
+     * Adds a MazeSolver to our maze
+     * @param solver The solver that is added to our maze
+     * @param <T> A class that must extend the abstract base class MazeSolver
+     */
+    public <T extends MazeSolver> void addSolver(T solver){
+        try {
+            this.solver=solver.clone();
+            this.solver.setStepListener(solver.stepListener());
+        } catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Calls the MazeGenerator's generateMaze method.
+     * It will generate our maze
+     * @throws NoMazeGeneratorFoundException
+     */
+    public void generateMaze() throws NoMazeGeneratorFoundException {
+        if(generator!=null)
+            generate(false, 0);
+        else
+            throw new NoMazeGeneratorFoundException();
+    }
+
+    /**
+     * Generates the maze with the given seed. The same seed always generates the same maze.
+     * @param seed the seed of the maze
+     * @throws NoMazeGeneratorFoundException
+     */
+    public void generateMaze(long seed) throws NoMazeGeneratorFoundException {
+        if(generator!=null)
+            generate(true, seed);
+        else
+            throw new NoMazeGeneratorFoundException();
+    }
+
+    /**
+     * Generates the maze with the generator, and remembers how the maze can be generated again.
+     * @param seeded whether the seed is given, or the generator uses its own
+     * @param seed the seed of the maze, if it is given
+     */
+    private void generate(boolean seeded, long seed){
+        GridStore store=getStore();
+        generator.resetMaze();
+        if(seeded)
+            generator.generateMaze(seed);
+        else
+            generator.generateMaze();
+        //The readers only see the new maze, once it is complete
+        store.publish();
+        this.seed=generator.getSeed();
+        generatedFingerprint=store.fingerprint();
+        reproducible=generator.isReproducible();
+    }
+
+    /**
+     * Calls the MazeSolver's solve method to solve the Maze
+     * @return a queue that stores the cells that make up the path to the exit
+     * @throws NoMazeSolverFoundException
+     */
+    public Queue<MazeCell> solveMaze() throws NoMazeSolverFoundException {
+        if(solver!=null)
+        {
+            Queue<MazeCell> path= solver.solveMaze(getSnapshot().getCells());
+            return path;
+        }
+        else{
+            throw new NoMazeSolverFoundException();
+        }
+    }
+
+    /**
+     * Solves the maze directly on its store, without creating the MazeCell view.
+     * @return the indices of the cells that make up the path to the exit
+     * @throws NoMazeSolverFoundException
+     */
+    public int[] solvePath() throws NoMazeSolverFoundException {
+        if(solver!=null)
+            return solver.solvePath(getSnapshot());
+        else
+            throw new NoMazeSolverFoundException();
+    }
+
+    /**
+     * Saves the maze. If the walls are still the ones generated from {@link #seed}, only the layout is saved besides the generator,
+     * otherwise the whole store.
+     * @param out the stream the maze is written to
+     * @throws IOException
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        MazeSolver s=null;
+        try {
+            //A new solver of the same kind, without the cells of its last solution
+            if(solver!=null)
+                s=solver.clone();
+        } catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+        out.writeObject(s);
+        GridStore current=getStore();
+        boolean fromSeed=reproducible && generator!=null && current.fingerprint()==generatedFingerprint;
+        out.writeBoolean(fromSeed);
+        out.writeObject(fromSeed ? current.getLayout() : current);
+    }
+
+    /**
+     * Loads the maze. A maze saved as its seed is not regenerated here, only when its store is first needed.
+     * @param in the stream the maze is read from
+     * @throws IOException
+     * @throws ClassNotFoundException
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        solver=(MazeSolver) in.readObject();
+        if(in.readBoolean())
+            layout=(CellLayout) in.readObject();
+        else{
+            store=(GridStore) in.readObject();
+            if(generator!=null)
+                generator.setStore(store);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package Maze;
+
+import MazeExceptions.NoMazeGeneratorFoundException;
+import MazeGeneratorClasses.MazeGenerator;
+import MazeGeneratorClasses.MazeType;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Generates many mazes of the same type and size without the UI, on a fixed number of threads.
+ * The seed of every maze is drawn from the seed of the batch, so the same batch always generates the same mazes, in the same order,
+ * no matter how many threads it runs on. Only a limited number of mazes are generated ahead of the consumer of the stream,
+ * so a batch of any size fits into memory, if the consumer does not keep the mazes.
+ */
+public final class MazeBatch {
+
+    /**
+     * The type of the generated mazes
+     */
+    private final MazeType type;
+    /**
+     * The dimensions of the generated mazes
+     */
+    private final int width, height;
+    /**
+     * The number of mazes in the batch
+     */
+    private final int count;
+    /**
+     * The seed of the batch, from which the seeds of the mazes are drawn
+     */
+    private final long seed;
+    /**
+     * The number of threads generating the mazes
+     */
+    private int parallelism=Runtime.getRuntime().availableProcessors();
+    /**
+     * The generation time of every maze in nanoseconds, in the order of the mazes. Only the first {@link #completed} are set.
+     */
+    private final long[] latencies;
+    /**
+     * The number of mazes that were taken from the stream
+     */
+    private volatile int completed=0;
+    /**
+     * The time when the stream started, and the time when the last maze was taken from it
+     */
+    private volatile long startTime, endTime;
+
+    public MazeBatch(MazeType type, int width, int height, int count, long seed){
+        if(width<1 || height<1)
+            throw new IllegalArgumentException("Invalid maze size: "+width+"x"+height);
+        if(count<0)
+            throw new IllegalArgumentException("Invalid count: "+count);
+        this.type=type;
+        this.width=width;
+        this.height=height;
+        this.count=count;
+        this.seed=seed;
+        latencies=new long[count];
+    }
+
+    /**
+     * Sets the number of threads generating the mazes. The default is the number of processors.
+     * @param parallelism the number of threads, at least 1
+     */
+    public void setParallelism(int parallelism){
+        if(parallelism<1)
+            throw new IllegalArgumentException("Invalid parallelism: "+parallelism);
+        this.parallelism=parallelism;
+    }
+
+    /**
+     * @return {@link #parallelism}, the number of threads generating the mazes
+     */
+    public int getParallelism(){
+        return parallelism;
+    }
+
+    /**
+     * Starts generating the mazes. The threads are stopped when every maze was taken, or the stream is closed.
+     * The mazes come in the order of their seeds, a maze that is finished early waits for the ones before it.
+     * @return the stream of the generated mazes
+     */
+    public Stream<Maze> generate(){
+        ExecutorService executor=Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t=new Thread(r, "maze-batch");
+            //An abandoned stream does not keep the application running
+            t.setDaemon(true);
+            return t;
+        });
+        Iterator<Maze> mazes=new Iterator<>(){
+            //Draws the seeds of the mazes
+            private final SplittableRandom seeds=new SplittableRandom(seed);
+            //The mazes that are being generated, at most two per thread
+            private final ArrayDeque<Future<Maze>> pending=new ArrayDeque<>();
+            private int submitted=0;
+            private int taken=0;
+
+            @Override
+            public boolean hasNext(){
+                return taken<count;
+            }
+
+            @Override
+            public Maze next(){
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                while(submitted<count && pending.size()<2*parallelism){
+                    final int index=submitted++;
+                    final long mazeSeed=seeds.nextLong();
+                    pending.add(executor.submit(() -> generateMaze(index, mazeSeed)));
+                }
+                Maze maze;
+                try {
+                    maze=pending.poll().get();
+                } catch (InterruptedException e) {
+                    executor.shutdownNow();
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                } catch (ExecutionException e) {
+                    executor.shutdownNow();
+                    throw new IllegalStateException(e.getCause());
+                }
+                completed=++taken;
+                endTime=System.nanoTime();
+                if(taken==count)
+                    executor.shutdown();
+                return maze;
+            }
+        };
+        startTime=System.nanoTime();
+        endTime=startTime;
+        completed=0;
+        if(count==0)
+            executor.shutdown();
+        return StreamSupport.stream(Spliterators.spliterator(mazes, count, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(executor::shutdownNow);
+    }
+
+    /**
+     * Generates a single maze of the batch, and records how long it took.
+     * @param index the position of the maze in the batch
+     * @param mazeSeed the seed of the maze
+     * @return the generated maze
+     */
+    private Maze generateMaze(int index, long mazeSeed) throws NoMazeGeneratorFoundException {
+        long start=System.nanoTime();
+        Maze maze=new Maze(width, height);
+        MazeGenerator generator=type.createGenerator(maze.getStore(), null, 0);
+        maze.addGenerator(generator);
+        maze.generateMaze(mazeSeed);
+        latencies[index]=System.nanoTime()-start;
+        return maze;
+    }
+
+    /**
+     * Returns the statistics of the mazes that were taken from the stream so far.
+     * @return the throughput and the latencies of the batch
+     */
+    public BatchStats getStats(){
+        int n=completed;
+        long[] done=new long[n];
+        System.arraycopy(latencies, 0, done, 0, n);
+        return new BatchStats(done, endTime-startTime, (long)width*height);
+    }
+}
@@ -1,11 +1,11 @@
 package Maze;
 
-import MazeSolverClasses.MazeSolver;
-
 import java.io.Serializable;
 
 /**
  * Represents a single cell of a maze and all it's values.
+ * A cell either stores its walls itself, or it is a view of a cell in a {@link GridStore},
+ * in which case its walls are read from and written to the store.
  */
 public class MazeCell implements Serializable {
 
@@ -25,45 +25,61 @@ public class MazeCell implements Serializable {
      */
     private int walls=0x0;
 
+    /**
+     * The store that holds the walls of this cell, if the cell is a view of a store.
+     * If it is null, the walls are kept in {@link #walls}.
+     */
+    private GridStore store=null;
+    /**
+     * The index of the cell in {@link #store}
+     */
+    private int index;
+
     public MazeCell(){}
     public MazeCell(int x, int y){
         this.x=x;
         this.y=y;
     }
-
-    /**
-     * Sets the {@link MazeCell#visited} to the given value
-     * @param visited
-     */
-    public void setVisited(boolean visited){
-        this.visited=visited;
+    public MazeCell(GridStore store, int index){
+        this(store.getX(index), store.getY(index));
+        this.store=store;
+        this.index=index;
     }
 
     /**
-     * References another MazeCell.
-     * Used by a few solver algorithms.
+     * @return {@link #store}, the store behind this cell, or null if the cell stores its own walls
      */
-    private MazeCell prev=null;
+    public GridStore getStore(){return store;}
 
     /**
-     * Assigns the passed MazeCell to {@link MazeCell#prev}
-     * @param prev
+     * @return {@link #index}, the index of this cell in its store
      */
-    public void assignPrevCell(MazeCell prev){
-        this.prev=prev;
-    }
+    public int getIndex(){return index;}
 
     /**
-     * Returns a reference to the previous cell
-     * @return the previous cell stored in {@link #prev}
+     * Sets the {@link MazeCell#visited} to the given value
+     * @param visited
      */
-    public MazeCell getPrevCell(){return prev;}
+    public void setVisited(boolean visited){
+        if(store!=null){
+            if(visited)
+                store.getVisitMarks().visit(index);
+            else
+                store.getVisitMarks().unvisit(index);
+            return;
+        }
+        this.visited=visited;
+    }
 
     /**
      * Returns true if the cell has been visited, otherwise false
      * @return the boolean {{@link #visited}}
      */
-    public boolean isVisited(){return visited;}
+    public boolean isVisited(){
+        if(store!=null)
+            return store.getVisitMarks().isVisited(index);
+        return visited;
+    }
     /**
      * @return the  {{@link #x}} coordinate of the cell in the maze.
      */
@@ -91,6 +107,11 @@ public class MazeCell implements Serializable {
      * @param w is the int value corresponding to a direction
      */
     public void openWall(int w){
+        if(store!=null){
+            if(w<0x10)
+                store.openWall(index, w);
+            return;
+        }
         if(((walls & w) != w) && w<0x10){
             walls+=w;
         }
@@ -102,6 +123,10 @@ public class MazeCell implements Serializable {
      */
     public void openOppositeWall(int w){
         int o=(w<<2)%15; //Shifts the bits by two to the left. If needed, it "shifts in" the proper bits in the left
+        if(store!=null){
+            store.openWall(index, o);
+            return;
+        }
         if((walls & o) != o){
             walls+=o;
         }
@@ -114,6 +139,10 @@ public class MazeCell implements Serializable {
      * In binary: 1111
      */
     public void openAllWalls(){
+        if(store!=null){
+            store.setWalls(index, 0xf);
+            return;
+        }
         walls=0xf;
     }
 
@@ -122,6 +151,10 @@ public class MazeCell implements Serializable {
      * @param w
      */
     public void closeWall(int w){
+        if(store!=null){
+            store.closeWall(index, w);
+            return;
+        }
         if((walls & w)==0 || walls!=0)
             walls-=w;
     }
@@ -131,6 +164,8 @@ public class MazeCell implements Serializable {
      * @return {@link MazeCell#walls} that represent the directions in which there are open walls.
      */
     public int getOpenWalls(){
+        if(store!=null)
+            return store.getWalls(index);
         return walls;
     }
 
@@ -141,7 +176,7 @@ public class MazeCell implements Serializable {
      * @return an int between 0 and 4 that represents the number of open walls
      */
     public int openWallNumber() {
-        int n=walls;
+        int n=getOpenWalls();
         int count = 0;
         while (n > 0) {
             n &= (n - 1);
@@ -160,13 +195,21 @@ public class MazeCell implements Serializable {
             return false;
         if(this.y!=other.y)
             return false;
-        if(this.walls!=other.walls)
+        if(this.getOpenWalls()!=other.getOpenWalls())
             return false;
 
         return true;
 
     }
 
+    /**
+     * Consistent with {@link #equals(Object)}, it is based on the position and the open walls of the cell.
+     */
+    @Override
+    public int hashCode(){
+        return (31*x+y)*31+getOpenWalls();
+    }
+
 
 
 }
@@ -0,0 +1,30 @@
+package Maze;
+
+/**
+ * The view on which a maze is drawn while it is generated or solved.
+ * The algorithms only know this interface, so they do not depend on the UI, that implements it with a Swing panel.
+ * It is an interface, because the panels already extend JPanel.
+ */
+public interface MazeView {
+
+    /**
+     * Sets the maze that is drawn
+     * @param maze a 2D array of the maze
+     */
+    void setMaze(MazeCell[][] maze);
+
+    /**
+     * Draws the current state of the maze again. It may be called from any thread.
+     */
+    void repaint();
+
+    /**
+     * Draws a single cell of the maze again, after some of its walls changed. It may be called from any thread.
+     * Draws the whole maze by default.
+     * @param x the x coordinate of the cell
+     * @param y the y coordinate of the cell
+     */
+    default void repaintCell(int x, int y){
+        repaint();
+    }
+}
@@ -0,0 +1,153 @@
+package Maze;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A store that keeps the walls of the cells outside the Java heap, so the garbage collector never has to deal with them.
+ * The walls are nibble-packed just like in {@link PackedGridStore}, 16 cells in every 8 bytes.
+ * The memory is either a direct buffer, or a file mapped into memory. In the latter case the maze can be bigger
+ * than the available memory, as the operating system pages the regions that are not in use out to the file.
+ */
+public class OffHeapGridStore extends GridStore {
+
+    /**
+     * Used for reading and updating the buffer 8 bytes at a time, atomically.
+     */
+    private static final VarHandle WORDS=MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * The memory that holds the walls. It is not serialized, its content is written out byte by byte instead.
+     */
+    private transient ByteBuffer buffer;
+
+    /**
+     * Allocates the maze in a direct buffer.
+     * @param width the width of the maze
+     * @param height the height of the maze
+     */
+    public OffHeapGridStore(int width, int height){
+        this(new RowMajorLayout(width, height));
+    }
+
+    /**
+     * Allocates the maze in a direct buffer.
+     * @param layout the layout of the cells
+     */
+    public OffHeapGridStore(CellLayout layout){
+        super(layout);
+        buffer=ByteBuffer.allocateDirect(byteSize());
+    }
+
+    /**
+     * Maps the given file into the memory and stores the maze in it.
+     * The file is created if it does not exist, and it is extended to the size of the maze if it is smaller.
+     * Its previous content is kept, so an already stored maze can be opened again with the same dimensions.
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param file the file that backs the maze
+     * @throws IOException if the file could not be mapped
+     */
+    public OffHeapGridStore(int width, int height, Path file) throws IOException {
+        this(new RowMajorLayout(width, height), file);
+    }
+
+    /**
+     * Maps the given file into the memory and stores the maze in it.
+     * A stored maze can only be opened again with the same layout.
+     * @param layout the layout of the cells
+     * @param file the file that backs the maze
+     * @throws IOException if the file could not be mapped
+     */
+    public OffHeapGridStore(CellLayout layout, Path file) throws IOException {
+        super(layout);
+        try(FileChannel channel=FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)){
+            buffer=channel.map(FileChannel.MapMode.READ_WRITE, 0, byteSize());
+        }
+        //The file may already hold a maze
+        recomputeFingerprint();
+    }
+
+    /**
+     * @return the number of bytes needed for the maze, rounded up to whole words
+     */
+    private int byteSize(){
+        return (int)((((long)capacity()+15)>>>4)<<3);
+    }
+
+    /**
+     * @param idx the index of a cell
+     * @return the byte offset of the word that holds the cell
+     */
+    private static int wordOffset(int idx){
+        return (idx>>>4)<<3;
+    }
+
+    @Override
+    public int getWalls(int idx){
+        return (int)((long)WORDS.get(buffer, wordOffset(idx)) >>> ((idx & 0xf)<<2)) & 0xf;
+    }
+
+    @Override
+    public void setWalls(int idx, int walls){
+        int shift=(idx & 0xf)<<2;
+        long mask=0xfL<<shift;
+        long bits=((long)(walls & 0xf))<<shift;
+        long old;
+        do{
+            old=(long)WORDS.getVolatile(buffer, wordOffset(idx));
+        }while(!WORDS.compareAndSet(buffer, wordOffset(idx), old, (old & ~mask) | bits));
+        flipped(idx, (int)((old ^ bits)>>>shift) & 0xf);
+    }
+
+    @Override
+    public void openWall(int idx, int w){
+        long old=(long)WORDS.getAndBitwiseOr(buffer, wordOffset(idx), ((long)(w & 0xf))<<((idx & 0xf)<<2));
+        //Only the walls that were closed before change the fingerprint
+        flipped(idx, w & ~(int)(old>>>((idx & 0xf)<<2)) & 0xf);
+    }
+
+    @Override
+    public void closeWall(int idx, int w){
+        long old=(long)WORDS.getAndBitwiseAnd(buffer, wordOffset(idx), ~(((long)(w & 0xf))<<((idx & 0xf)<<2)));
+        flipped(idx, w & (int)(old>>>((idx & 0xf)<<2)) & 0xf);
+    }
+
+    @Override
+    public void clear(){
+        for(int offset=0;offset<buffer.capacity();offset+=8)
+            WORDS.set(buffer, offset, 0L);
+        setFingerprint(0L);
+    }
+
+    /**
+     * Writes the changes of a file backed store out to the file. Does nothing if the store is not file backed.
+     */
+    public void force(){
+        if(buffer instanceof MappedByteBuffer)
+            ((MappedByteBuffer)buffer).force();
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        for(int offset=0;offset<buffer.capacity();offset++)
+            out.writeByte(buffer.get(offset));
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        //A loaded maze is always kept in a direct buffer, even if it was file backed when it was saved
+        buffer=ByteBuffer.allocateDirect(byteSize());
+        for(int offset=0;offset<buffer.capacity();offset++)
+            buffer.put(offset, in.readByte());
+    }
+}
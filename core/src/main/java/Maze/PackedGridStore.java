@@ -0,0 +1,67 @@
+package Maze;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * A store that keeps the walls of the cells nibble-packed in a long array, so 16 cells fit into a single long.
+ * This is half a byte per cell, instead of a whole MazeCell object.
+ */
+public class PackedGridStore extends GridStore {
+
+    /**
+     * Used for updating the words atomically.
+     * Neighbouring cells share a word, and some generators write the maze from several threads at once.
+     */
+    private static final VarHandle WORDS=MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * The packed walls. The walls of the cell with index i are stored in the (i%16)th nibble of the (i/16)th word.
+     */
+    private final long[] words;
+
+    public PackedGridStore(int width, int height){
+        this(new RowMajorLayout(width, height));
+    }
+    public PackedGridStore(CellLayout layout){
+        super(layout);
+        words=new long[(int)(((long)capacity()+15)>>>4)];
+    }
+
+    @Override
+    public int getWalls(int idx){
+        return (int)(words[idx>>>4] >>> ((idx & 0xf)<<2)) & 0xf;
+    }
+
+    @Override
+    public void setWalls(int idx, int walls){
+        int shift=(idx & 0xf)<<2;
+        long mask=0xfL<<shift;
+        long bits=((long)(walls & 0xf))<<shift;
+        long old;
+        do{
+            old=(long)WORDS.getVolatile(words, idx>>>4);
+        }while(!WORDS.compareAndSet(words, idx>>>4, old, (old & ~mask) | bits));
+        flipped(idx, (int)((old ^ bits)>>>shift) & 0xf);
+    }
+
+    @Override
+    public void openWall(int idx, int w){
+        long old=(long)WORDS.getAndBitwiseOr(words, idx>>>4, ((long)(w & 0xf))<<((idx & 0xf)<<2));
+        //Only the walls that were closed before change the fingerprint
+        flipped(idx, w & ~(int)(old>>>((idx & 0xf)<<2)) & 0xf);
+    }
+
+    @Override
+    public void closeWall(int idx, int w){
+        long old=(long)WORDS.getAndBitwiseAnd(words, idx>>>4, ~(((long)(w & 0xf))<<((idx & 0xf)<<2)));
+        flipped(idx, w & (int)(old>>>((idx & 0xf)<<2)) & 0xf);
+    }
+
+    @Override
+    public void clear(){
+        Arrays.fill(words, 0L);
+        setFingerprint(0L);
+    }
+}
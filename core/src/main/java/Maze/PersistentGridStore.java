@@ -0,0 +1,286 @@
+package Maze;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A store that keeps versions of the maze, so the maze can be read while it is being generated.
+ * The walls are nibble-packed like in {@link PackedGridStore}, but the words are cut into chunks.
+ * The writer works on its own version, and {@link #publish()} turns it into an immutable {@link GridSnapshot}.
+ * The snapshot shares every chunk with the writer, and the writer copies a chunk the first time it writes it after a publish,
+ * so publishing is a pointer swap, and a new version only costs the chunks that were actually changed.
+ * Readers, like the panel or a solver, call {@link #snapshot()} and keep reading the same version,
+ * no matter what the generator does in the meantime.
+ * Publishing while other threads are writing is allowed. The writers share a lock while they change a chunk and the fingerprint,
+ * and {@link #publish()} takes it alone, so every write is either completely in a version or not at all,
+ * and the fingerprint of a version always matches its walls. The two halves of a passage are written under the same lock,
+ * but two separate wall writes may still be split by a version published by another thread.
+ */
+public class PersistentGridStore extends GridStore {
+
+    /**
+     * A chunk has 2^CHUNK_BITS words, that is 1024 words or 16384 cells.
+     */
+    static final int CHUNK_BITS=10;
+    static final int CHUNK_WORDS=1<<CHUNK_BITS;
+
+    /**
+     * Used for updating the words of the chunks atomically.
+     */
+    private static final VarHandle WORDS=MethodHandles.arrayElementVarHandle(long[].class);
+    /**
+     * Used for publishing the ownership of a copied chunk to the other writing threads.
+     */
+    private static final VarHandle OWNED=MethodHandles.arrayElementVarHandle(int[].class);
+
+    /**
+     * The chunks of the version that is being written.
+     */
+    private volatile long[][] chunks;
+    /**
+     * The version in which each chunk was copied by the writer. A chunk can only be written in place, if it was copied in the current version,
+     * otherwise it may be part of a snapshot.
+     */
+    private final int[] ownedVersion;
+    /**
+     * The version that is being written
+     */
+    private volatile int version=1;
+    /**
+     * True if the last snapshot uses the same chunk table as the writer, so the table has to be copied before it is changed.
+     */
+    private boolean tableShared=false;
+    /**
+     * The last published version
+     */
+    private transient volatile GridSnapshot snapshot;
+    /**
+     * Shared by the writers, and taken alone by {@link #publish()} and {@link #clear()}, so a chunk is never handed to a snapshot
+     * between {@link #writable(int)} and the write. It is always deserialized unlocked.
+     */
+    private final StampedLock lock=new StampedLock();
+
+    public PersistentGridStore(int width, int height){
+        this(new RowMajorLayout(width, height));
+    }
+    public PersistentGridStore(CellLayout layout){
+        super(layout);
+        long words=((long)capacity()+15)>>>4;
+        int count=(int)((words+CHUNK_WORDS-1)>>>CHUNK_BITS);
+        long[][] table=new long[count][];
+        for(int i=0;i<count;i++)
+            table[i]=new long[(int)Math.min(CHUNK_WORDS, words-((long)i<<CHUNK_BITS))];
+        ownedVersion=new int[count];
+        Arrays.fill(ownedVersion, version);
+        chunks=table;
+        publish();
+    }
+
+    /**
+     * @param idx the index of a cell
+     * @return the index of the chunk that holds the cell
+     */
+    static int chunkOf(int idx){
+        return idx>>>(CHUNK_BITS+4);
+    }
+
+    /**
+     * @param idx the index of a cell
+     * @return the index of the word inside its chunk, that holds the cell
+     */
+    static int wordOf(int idx){
+        return (idx>>>4) & (CHUNK_WORDS-1);
+    }
+
+    /**
+     * Returns the chunk, that the writer can change in place. If the chunk is shared with a snapshot, it is copied first.
+     * The caller must hold the read lock of {@link #lock} until the write is done.
+     * @param c the index of the chunk
+     * @return the writable chunk
+     */
+    private long[] writable(int c){
+        if((int)OWNED.getAcquire(ownedVersion, c)==version)
+            return chunks[c];
+        synchronized(this){
+            long[][] table=chunks;
+            if(tableShared){
+                table=table.clone();
+                tableShared=false;
+                chunks=table;
+            }
+            if(ownedVersion[c]!=version){
+                table[c]=table[c].clone();
+                OWNED.setRelease(ownedVersion, c, version);
+            }
+            return table[c];
+        }
+    }
+
+    @Override
+    public int getWalls(int idx){
+        return (int)(chunks[chunkOf(idx)][wordOf(idx)] >>> ((idx & 0xf)<<2)) & 0xf;
+    }
+
+    @Override
+    public void setWalls(int idx, int walls){
+        int word=wordOf(idx);
+        int shift=(idx & 0xf)<<2;
+        long mask=0xfL<<shift;
+        long bits=((long)(walls & 0xf))<<shift;
+        long stamp=lock.readLock();
+        try{
+            long[] chunk=writable(chunkOf(idx));
+            long old;
+            do{
+                old=(long)WORDS.getVolatile(chunk, word);
+            }while(!WORDS.compareAndSet(chunk, word, old, (old & ~mask) | bits));
+            flipped(idx, (int)((old ^ bits)>>>shift) & 0xf);
+        }
+        finally{
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void openWall(int idx, int w){
+        long stamp=lock.readLock();
+        try{
+            open(idx, w);
+        }
+        finally{
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void closeWall(int idx, int w){
+        long stamp=lock.readLock();
+        try{
+            close(idx, w);
+        }
+        finally{
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Overrides the base class's method. Both halves of the passage are written under the same lock,
+     * so a version has either both of them or none.
+     */
+    @Override
+    public void openPassage(int idx, Directions d){
+        int n=neighbour(idx, d);
+        long stamp=lock.readLock();
+        try{
+            open(idx, d.getBValue());
+            open(n, d.getOpposite().getBValue());
+        }
+        finally{
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Overrides the base class's method. Both halves of the passage are written under the same lock.
+     */
+    @Override
+    public void closePassage(int idx, Directions d){
+        int n=neighbour(idx, d);
+        long stamp=lock.readLock();
+        try{
+            close(idx, d.getBValue());
+            close(n, d.getOpposite().getBValue());
+        }
+        finally{
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Opens the given walls of a cell. The caller must hold the read lock.
+     * @param idx the index of the cell
+     * @param w the bit values of the walls
+     */
+    private void open(int idx, int w){
+        long old=(long)WORDS.getAndBitwiseOr(writable(chunkOf(idx)), wordOf(idx), ((long)(w & 0xf))<<((idx & 0xf)<<2));
+        //Only the walls that were closed before change the fingerprint
+        flipped(idx, w & ~(int)(old>>>((idx & 0xf)<<2)) & 0xf);
+    }
+
+    /**
+     * Closes the given walls of a cell. The caller must hold the read lock.
+     * @param idx the index of the cell
+     * @param w the bit values of the walls
+     */
+    private void close(int idx, int w){
+        long old=(long)WORDS.getAndBitwiseAnd(writable(chunkOf(idx)), wordOf(idx), ~(((long)(w & 0xf))<<((idx & 0xf)<<2)));
+        flipped(idx, w & (int)(old>>>((idx & 0xf)<<2)) & 0xf);
+    }
+
+    @Override
+    public void clear(){
+        long stamp=lock.writeLock();
+        try{
+            long[][] table=chunks;
+            if(tableShared){
+                table=new long[table.length][];
+                tableShared=false;
+            }
+            //The chunks of the snapshot are left alone, the writer gets new, empty ones
+            for(int c=0;c<table.length;c++){
+                if(ownedVersion[c]==version && table[c]!=null)
+                    Arrays.fill(table[c], 0L);
+                else{
+                    table[c]=new long[chunks[c].length];
+                    OWNED.setRelease(ownedVersion, c, version);
+                }
+            }
+            chunks=table;
+            setFingerprint(0L);
+        }
+        finally{
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Publishes the current state of the writer as a new version. The writer continues in a new version,
+     * so the published one is never changed again. It waits for the writes that are under way.
+     */
+    @Override
+    public void publish(){
+        long stamp=lock.writeLock();
+        try{
+            snapshot=new GridSnapshot(layout, chunks, version, fingerprint());
+            tableShared=true;
+            version++;
+        }
+        finally{
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return the last published version of the maze
+     */
+    @Override
+    public GridSnapshot snapshot(){
+        return snapshot;
+    }
+
+    /**
+     * @return {@link #version}, the number of the version that is being written
+     */
+    public int getVersion(){
+        return version;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        publish();
+    }
+}
@@ -0,0 +1,53 @@
+package Maze;
+
+/**
+ * The classic layout, the cells are stored row after row, just like in a MazeCell[height][width] array.
+ * Horizontal neighbours are next to each other, but vertical neighbours are a whole row apart.
+ */
+public class RowMajorLayout extends CellLayout {
+
+    public RowMajorLayout(int width, int height){
+        super(width, height);
+    }
+
+    @Override
+    public int capacity(){return width*height;}
+
+    @Override
+    public int index(int x, int y){return y*width+x;}
+
+    @Override
+    public int getX(int idx){return idx%width;}
+
+    @Override
+    public int getY(int idx){return idx/width;}
+
+    @Override
+    public boolean isCell(int idx){
+        return idx>=0 && idx<capacity();
+    }
+
+    @Override
+    public int neighbour(int idx, Directions d){
+        switch(d){
+            case North:
+                return idx>=width ? idx-width : -1;
+            case South:
+                return idx<capacity()-width ? idx+width : -1;
+            case East:
+                return (idx+1)%width!=0 ? idx+1 : -1;
+            default:
+                return idx%width!=0 ? idx-1 : -1;
+        }
+    }
+
+    @Override
+    public void neighbours(int idx, int[] neighbours){
+        //Only one division for the whole cell
+        int x=idx%width;
+        neighbours[0]=idx>=width ? idx-width : -1;
+        neighbours[1]=x<width-1 ? idx+1 : -1;
+        neighbours[2]=idx<capacity()-width ? idx+width : -1;
+        neighbours[3]=x>0 ? idx-1 : -1;
+    }
+}
@@ -0,0 +1,44 @@
+package Maze;
+
+/**
+ * Abstract base class of the listeners, that the generators and the solvers notify after each sub-step of their algorithm.
+ * The algorithms do not know about the UI: drawing and slowing down the algorithm is done by a listener,
+ * that the UI sets on them. Without a listener, the algorithms call {@link #NONE}, whose methods are empty,
+ * so the JIT can remove the calls from the hot loops.
+ */
+public abstract class StepListener {
+
+    /**
+     * The listener that does nothing. It is used when the maze is not drawn.
+     */
+    public static final StepListener NONE=new StepListener(){};
+
+    /**
+     * Called after a sub-step of the algorithm. Does nothing by default.
+     */
+    public void step(){
+    }
+
+    /**
+     * Called when the state of the algorithm changed, but it is not worth waiting for. Does nothing by default.
+     */
+    public void changed(){
+    }
+
+    /**
+     * Called after the last step of the algorithm. Does nothing by default.
+     */
+    public void finished(){
+    }
+
+    /**
+     * Called when a wall of a finished maze was opened or closed, by the generators that keep changing their maze,
+     * like {@link MazeGeneratorClasses.OriginShiftGenerator}. The wall is already changed in both of its cells.
+     * Does nothing by default.
+     * @param idx the index of a cell
+     * @param d the direction of the wall from the cell
+     * @param open true if the wall was opened, false if it was closed
+     */
+    public void wallChanged(int idx, Directions d, boolean open){
+    }
+}
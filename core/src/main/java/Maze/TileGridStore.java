@@ -0,0 +1,99 @@
+package Maze;
+
+/**
+ * A rectangular part of another store, that can be used as a maze on its own.
+ * The cells of the tile are numbered in row-major order, and every read and write goes to the cell of the parent store.
+ * Tiles that do not overlap can be written from different threads, as long as the parent store updates the cells that
+ * share a word atomically, like the packed stores do. A tile is meant to be used by a single thread,
+ * its own fingerprint is only kept up-to-date for that thread, but the fingerprint of the parent is always correct.
+ */
+public class TileGridStore extends GridStore {
+
+    /**
+     * The store that holds the walls
+     */
+    private final GridStore parent;
+    /**
+     * The coordinates of the top left cell of the tile in the parent store
+     */
+    private final int x0, y0;
+
+    /**
+     * @param parent the store that holds the walls
+     * @param x0 the x coordinate of the top left cell of the tile
+     * @param y0 the y coordinate of the top left cell of the tile
+     * @param width the width of the tile
+     * @param height the height of the tile
+     */
+    public TileGridStore(GridStore parent, int x0, int y0, int width, int height){
+        super(width, height);
+        if(x0<0 || y0<0 || x0+width>parent.getWidth() || y0+height>parent.getHeight())
+            throw new IllegalArgumentException("The tile is outside of the maze");
+        this.parent=parent;
+        this.x0=x0;
+        this.y0=y0;
+    }
+
+    /**
+     * @param idx the index of a cell of the tile
+     * @return the index of the same cell in the parent store
+     */
+    private int parentIndex(int idx){
+        return parent.index(x0+getX(idx), y0+getY(idx));
+    }
+
+    @Override
+    public int getWalls(int idx){
+        return parent.getWalls(parentIndex(idx));
+    }
+
+    @Override
+    public void setWalls(int idx, int walls){
+        int p=parentIndex(idx);
+        int old=parent.getWalls(p);
+        parent.setWalls(p, walls);
+        flipped(idx, (old ^ walls) & 0xf);
+    }
+
+    @Override
+    public void openWall(int idx, int w){
+        int p=parentIndex(idx);
+        int old=parent.getWalls(p);
+        parent.openWall(p, w);
+        flipped(idx, w & ~old & 0xf);
+    }
+
+    @Override
+    public void closeWall(int idx, int w){
+        int p=parentIndex(idx);
+        int old=parent.getWalls(p);
+        parent.closeWall(p, w);
+        flipped(idx, w & old & 0xf);
+    }
+
+    /**
+     * Overrides the base class's method. The passage is opened by the parent in one go, which is faster for some stores.
+     */
+    @Override
+    public void openPassage(int idx, Directions d){
+        int n=neighbour(idx, d);
+        int p=parentIndex(idx), pn=parentIndex(n);
+        int old=parent.getWalls(p), oldN=parent.getWalls(pn);
+        parent.openPassage(p, d);
+        flipped(idx, d.getBValue() & ~old & 0xf);
+        flipped(n, d.getOpposite().getBValue() & ~oldN & 0xf);
+    }
+
+    /**
+     * Overrides the base class's method. The passage is closed by the parent in one go.
+     */
+    @Override
+    public void closePassage(int idx, Directions d){
+        int n=neighbour(idx, d);
+        int p=parentIndex(idx), pn=parentIndex(n);
+        int old=parent.getWalls(p), oldN=parent.getWalls(pn);
+        parent.closePassage(p, d);
+        flipped(idx, d.getBValue() & old & 0xf);
+        flipped(n, d.getOpposite().getBValue() & oldN & 0xf);
+    }
+}
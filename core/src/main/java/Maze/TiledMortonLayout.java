@@ -0,0 +1,149 @@
+package Maze;
+
+/**
+ * A layout that cuts the maze into square tiles and stores the tiles row after row.
+ * Inside a tile the cells follow the Z-order (Morton) curve: the bits of the x and y coordinates are interleaved.
+ * Cells that are close to each other in any direction are close in the memory as well,
+ * so a search that moves north and south does not jump a whole row with every step.
+ * If the size of the maze is not a multiple of the tile size, the tiles on the right and bottom edge
+ * are only partially used, and the unused indices are holes.
+ */
+public class TiledMortonLayout extends CellLayout {
+
+    /**
+     * The default tile is 32x32 cells
+     */
+    public static final int DEFAULT_TILE_BITS=5;
+
+    /**
+     * The bits of the x coordinates in a Morton code are the even bits, the y coordinates are the odd ones.
+     */
+    private static final int EVEN_BITS=0x55555555, ODD_BITS=0xaaaaaaaa;
+
+    /**
+     * The side of a tile is 2^tileBits cells.
+     */
+    private final int tileBits;
+    /**
+     * The number of tiles in a row and in a column
+     */
+    private final int tilesX, tilesY;
+    /**
+     * The mask of the index inside a tile, and the masks of the x and y bits in it.
+     */
+    private final int localMask, xMask, yMask;
+    /**
+     * True if the edge tiles have unused cells, and the steps have to check for them.
+     */
+    private final boolean padded;
+
+    public TiledMortonLayout(int width, int height){
+        this(width, height, DEFAULT_TILE_BITS);
+    }
+
+    /**
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param tileBits the side of a tile is 2^tileBits cells, between 1 and 15
+     */
+    public TiledMortonLayout(int width, int height, int tileBits){
+        super(width, height);
+        if(tileBits<1 || tileBits>15)
+            throw new IllegalArgumentException("Invalid tile size: "+tileBits);
+        this.tileBits=tileBits;
+        int side=1<<tileBits;
+        tilesX=(width+side-1)>>>tileBits;
+        tilesY=(height+side-1)>>>tileBits;
+        if(((long)tilesX*tilesY<<(2*tileBits))>Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Invalid maze size: "+width+"x"+height);
+        localMask=(1<<(2*tileBits))-1;
+        xMask=EVEN_BITS & localMask;
+        yMask=ODD_BITS & localMask;
+        padded=(width & (side-1))!=0 || (height & (side-1))!=0;
+    }
+
+    /**
+     * @return {@link #tileBits}, the side of a tile is 2^tileBits cells
+     */
+    public int getTileBits(){return tileBits;}
+
+    /**
+     * Spreads the lower 16 bits of the value to the even bits.
+     */
+    private static int spread(int v){
+        v&=0xffff;
+        v=(v | (v<<8)) & 0x00ff00ff;
+        v=(v | (v<<4)) & 0x0f0f0f0f;
+        v=(v | (v<<2)) & 0x33333333;
+        v=(v | (v<<1)) & 0x55555555;
+        return v;
+    }
+
+    /**
+     * Collects the even bits of the value, the inverse of {@link #spread(int)}.
+     */
+    private static int compact(int v){
+        v&=0x55555555;
+        v=(v | (v>>>1)) & 0x33333333;
+        v=(v | (v>>>2)) & 0x0f0f0f0f;
+        v=(v | (v>>>4)) & 0x00ff00ff;
+        v=(v | (v>>>8)) & 0x0000ffff;
+        return v;
+    }
+
+    @Override
+    public int capacity(){
+        return tilesX*tilesY<<(2*tileBits);
+    }
+
+    @Override
+    public int index(int x, int y){
+        int mask=(1<<tileBits)-1;
+        int tile=(y>>>tileBits)*tilesX+(x>>>tileBits);
+        return (tile<<(2*tileBits)) | spread(x & mask) | (spread(y & mask)<<1);
+    }
+
+    @Override
+    public int getX(int idx){
+        int tile=idx>>>(2*tileBits);
+        return ((tile%tilesX)<<tileBits) | compact(idx & localMask);
+    }
+
+    @Override
+    public int getY(int idx){
+        int tile=idx>>>(2*tileBits);
+        return ((tile/tilesX)<<tileBits) | compact((idx & localMask)>>>1);
+    }
+
+    /**
+     * Steps inside the tile by incrementing or decrementing the x or y bits of the Morton code directly.
+     * Only the steps that leave the tile need the coordinates.
+     */
+    @Override
+    public int neighbour(int idx, Directions d){
+        int local=idx & localMask;
+        int base=idx & ~localMask;
+        int n;
+        switch(d){
+            case East:
+                if((local & xMask)==xMask)
+                    return super.neighbour(idx, d);
+                n=base | (((local | ~xMask)+1) & xMask) | (local & yMask);
+                //Moving east or south may step into the unused part of an edge tile
+                return padded && !isCell(n) ? -1 : n;
+            case South:
+                if((local & yMask)==yMask)
+                    return super.neighbour(idx, d);
+                n=base | (((local | ~yMask)+1) & yMask) | (local & xMask);
+                return padded && !isCell(n) ? -1 : n;
+            case West:
+                if((local & xMask)==0)
+                    return super.neighbour(idx, d);
+                return base | (((local & xMask)-1) & xMask) | (local & yMask);
+            default:
+                if((local & yMask)==0)
+                    return super.neighbour(idx, d);
+                return base | (((local & yMask)-1) & yMask) | (local & xMask);
+        }
+    }
+}
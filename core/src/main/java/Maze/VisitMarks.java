@@ -0,0 +1,77 @@
+package Maze;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the visited flags of the cells of a maze as epoch stamps.
+ * A cell is visited if its stamp equals the current epoch, so unvisiting every cell is just a new epoch,
+ * instead of a pass over the whole maze.
+ * The stamps are bytes, so after 255 epochs the counter wraps around, and only then are the stamps really cleared.
+ */
+public class VisitMarks {
+
+    /**
+     * The largest epoch, after it the counter starts again from 1.
+     */
+    private static final int MAX_EPOCH=0xff;
+
+    /**
+     * The stamp of each cell. 0 is never used as an epoch, so it means unvisited.
+     */
+    private final byte[] stamps;
+    /**
+     * The current epoch
+     */
+    private int epoch=1;
+
+    /**
+     * @param size the number of cells
+     */
+    public VisitMarks(int size){
+        stamps=new byte[size];
+    }
+
+    /**
+     * @param idx the index of a cell
+     * @return true if the cell has been visited since the last {@link #clear()}
+     */
+    public boolean isVisited(int idx){
+        return stamps[idx]==(byte)epoch;
+    }
+
+    /**
+     * Marks the cell as visited.
+     * @param idx the index of a cell
+     */
+    public void visit(int idx){
+        stamps[idx]=(byte)epoch;
+    }
+
+    /**
+     * Marks the cell as unvisited.
+     * @param idx the index of a cell
+     */
+    public void unvisit(int idx){
+        stamps[idx]=0;
+    }
+
+    /**
+     * Marks every cell as unvisited, by starting a new epoch.
+     * The stamps are only cleared when the counter wraps around.
+     */
+    public void clear(){
+        if(epoch==MAX_EPOCH){
+            Arrays.fill(stamps, (byte)0);
+            epoch=1;
+        }
+        else
+            epoch++;
+    }
+
+    /**
+     * @return {@link #epoch}, the current epoch
+     */
+    public int getEpoch(){
+        return epoch;
+    }
+}
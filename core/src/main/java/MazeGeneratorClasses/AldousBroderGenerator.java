@@ -0,0 +1,76 @@
+package MazeGeneratorClasses;
+
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.StepListener;
+import Maze.VisitMarks;
+import Maze.MazeView;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class implements the maze generation algorithm known as the Aldous-Broder Algorithm.
+ * It inherits from the MazeGenerator base class.
+ */
+public class AldousBroderGenerator extends MazeGenerator{
+
+    public AldousBroderGenerator(MazeCell[][] maze, MazeView mf){ super(maze, mf);}
+    public AldousBroderGenerator(MazeCell[][] maze, MazeView mf, int t){
+        this(maze, mf);
+        this.sleepDrawTime=t;
+    }
+    public AldousBroderGenerator(GridStore store){
+        this(store, null);
+    }
+    public AldousBroderGenerator(GridStore store, MazeView mf){ super(store, mf);}
+    public AldousBroderGenerator(GridStore store, MazeView mf, int t){
+        this(store, mf);
+        this.sleepDrawTime=t;
+    }
+
+    @Override
+    public void generateMaze(){
+
+        int current=store.index(0,0);
+        VisitMarks visited=store.getVisitMarks();
+        visited.clear();
+        visited.visit(current);
+        openEntrance();
+
+        RandomGenerator rnd=newRandom();
+        StepListener listener=stepListener();
+
+        //As all cells are unvisited, except the starting cell, we only have to count them
+        int unvisitedCells=store.size()-1;
+        while(unvisitedCells>0){
+
+
+            //We select a neighbouring cell randomly
+            List<Integer> neighbours=allNeighbours(current);
+            int next=neighbours.get(rnd.nextInt(neighbours.size()));
+
+            //If the cell is unvisited
+            if(!visited.isVisited(next)) {
+                //Draw
+                listener.step();
+
+                //We open up the wall between the two cells
+                connect(current, next);
+                //Mark it as visited
+                visited.visit(next);
+                unvisitedCells--;
+            }
+            current=next;
+        }
+        openExit(rnd);
+
+    }
+
+    @Override
+    public AldousBroderGenerator clone(){
+        return new AldousBroderGenerator(store,mf,sleepDrawTime);
+    }
+
+
+}
@@ -0,0 +1,121 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.StepListener;
+import Maze.VisitMarks;
+import Maze.MazeView;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * This class generates uniform spanning tree mazes by combining the Aldous-Broder and Wilson's algorithm.
+ * The Aldous-Broder walk finds new cells quickly while most of the maze is unvisited, but it takes very long to find the last ones.
+ * Wilson's walks are the opposite: they are long while the maze is small, and short when it is nearly finished.
+ * So the Aldous-Broder walk runs until a given fraction of the cells is covered, then loop-erased walks add the rest.
+ * Like both of them, the result is a uniform spanning tree.
+ * Extends WilsonsGenerator, whose walks finish the maze.
+ */
+public class AldousBroderWilsonGenerator extends WilsonsGenerator{
+
+    /**
+     * The fraction of cells after which the generator switches to Wilson's walks, if nothing else is given.
+     */
+    public static final double DEFAULT_SWITCH_COVERAGE=0.3;
+
+    /**
+     * The fraction of cells, that the Aldous-Broder walk covers before the generator switches to Wilson's walks.
+     */
+    private double switchCoverage=DEFAULT_SWITCH_COVERAGE;
+
+    public AldousBroderWilsonGenerator(MazeCell[][] maze, MazeView mf){
+        super(maze, mf);
+    }
+    public AldousBroderWilsonGenerator(MazeCell[][] maze, MazeView mf, int t){
+        super(maze, mf, t);
+    }
+    public AldousBroderWilsonGenerator(GridStore store){
+        this(store, null);
+    }
+    public AldousBroderWilsonGenerator(GridStore store, MazeView mf){
+        super(store, mf);
+    }
+    public AldousBroderWilsonGenerator(GridStore store, MazeView mf, int t){
+        super(store, mf, t);
+    }
+
+    /**
+     * Sets the fraction of cells, after which the generator switches to Wilson's walks.
+     * 0 means Wilson's algorithm only, 1 means Aldous-Broder only.
+     * @param switchCoverage a number between 0 and 1
+     */
+    public void setSwitchCoverage(double switchCoverage){
+        if(!(switchCoverage>=0 && switchCoverage<=1))
+            throw new IllegalArgumentException("Invalid coverage: "+switchCoverage);
+        this.switchCoverage=switchCoverage;
+    }
+
+    /**
+     * @return {@link #switchCoverage}, the fraction of cells after which the generator switches to Wilson's walks
+     */
+    public double getSwitchCoverage(){
+        return switchCoverage;
+    }
+
+    @Override
+    public void generateMaze(){
+
+        int current=store.index(0,0);
+        VisitMarks visited=store.getVisitMarks();
+        visited.clear();
+        visited.visit(current);
+        openEntrance();
+
+        RandomGenerator rnd=newRandom();
+        StepListener listener=stepListener();
+        //The neighbours of the current cell, in the order of the directions
+        int[] neighbours=new int[4];
+
+        //The Aldous-Broder walk stops when this many cells are still unvisited
+        int remaining=(int)Math.round(store.size()*(1-switchCoverage));
+        int unvisitedCells=store.size()-1;
+        while(unvisitedCells>remaining){
+
+            //We select a neighbouring cell randomly
+            store.neighbours(current, neighbours);
+            int valid=0;
+            for(int i=0;i<4;i++){
+                if(neighbours[i]>=0)
+                    valid|=1<<i;
+            }
+            Directions d=nthDirection(valid, rnd.nextInt(Integer.bitCount(valid)));
+            int next=neighbours[d.ordinal()];
+
+            //If the cell is unvisited
+            if(!visited.isVisited(next)) {
+                //Draw
+                listener.step();
+
+                //We open up the wall between the two cells
+                store.openPassage(current, d);
+                //Mark it as visited
+                visited.visit(next);
+                unvisitedCells--;
+            }
+            current=next;
+        }
+
+        //The rest of the cells are added by Wilson's walks
+        addLoopErasedWalks(visited, rnd);
+        openExit(rnd);
+
+    }
+
+    @Override
+    public AldousBroderWilsonGenerator clone(){
+        AldousBroderWilsonGenerator clone=new AldousBroderWilsonGenerator(store,mf,sleepDrawTime);
+        clone.switchCoverage=switchCoverage;
+        return clone;
+    }
+}
@@ -0,0 +1,90 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.MazeView;
+
+import java.io.IOException;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class implements the Binary Tree algorithm for maze generation. Extends the base class RowGenerator.
+ * Every cell opens up either its eastern or its southern wall, chosen by a coin flip. The cells of the last row can only go east,
+ * and the cells of the last column can only go south, so every path leads to the bottom right corner.
+ * A cell only depends on its own coin, so this is the fastest generator, but the mazes have long straight corridors
+ * along the southern and eastern border.
+ */
+public class BinaryTreeGenerator extends RowGenerator{
+
+    public BinaryTreeGenerator(MazeCell[][] maze, MazeView mf){
+        super(maze, mf);
+    }
+    public BinaryTreeGenerator(MazeCell[][] maze, MazeView mf, int t){
+        super(maze, mf, t);
+    }
+    public BinaryTreeGenerator(GridStore store){
+        this(store, null);
+    }
+    public BinaryTreeGenerator(GridStore store, MazeView mf){
+        super(store, mf);
+    }
+    public BinaryTreeGenerator(GridStore store, MazeView mf, int t){
+        super(store, mf, t);
+    }
+
+    @Override
+    protected void generateRows(RowSink sink, RandomGenerator rnd) throws IOException {
+        generateRows(store.getWidth(), store.getHeight(), sink, rnd);
+    }
+
+    /**
+     * Generates a maze with the Binary Tree algorithm, and passes its rows to the sink.
+     * Only the current row is kept, and a row does not allocate anything.
+     * The entrance is the northern wall of the top left cell, the exit is the southern wall of a random cell in the last row.
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param sink the receiver of the rows
+     * @param rnd the random generator
+     * @throws IOException if the sink could not write a row
+     */
+    public static void generateRows(int width, long height, RowSink sink, RandomGenerator rnd) throws IOException {
+        if(width<1 || height<1)
+            throw new IllegalArgumentException("Invalid maze size: "+width+"x"+height);
+        //The walls of the cells of the current row
+        int[] walls=new int[width];
+        RandomBits coin=new RandomBits(rnd);
+        //The entrance
+        walls[0]=Directions.North.getBValue();
+
+        for(long y=0;y<height-1;y++){
+            for(int x=0;x<width-1;x++){
+                //1 opens the southern wall (0x4), 0 opens the eastern wall (0x2) and the western wall of the next cell (0x8)
+                int south=coin.nextBit();
+                int east=south ^ 1;
+                walls[x]|=south<<2 | east<<1;
+                walls[x+1]|=east<<3;
+            }
+            walls[width-1]|=Directions.South.getBValue();
+            sink.acceptRow(y, walls);
+            //The southern walls become the northern walls of the next row
+            for(int x=0;x<width;x++)
+                walls[x]=(walls[x]>>>2) & Directions.North.getBValue();
+        }
+
+        //The last row is a single corridor
+        for(int x=0;x<width-1;x++){
+            walls[x]|=Directions.East.getBValue();
+            walls[x+1]|=Directions.West.getBValue();
+        }
+        //The exit
+        walls[rnd.nextInt(width)]|=Directions.South.getBValue();
+        sink.acceptRow(height-1, walls);
+        sink.finish();
+    }
+
+    @Override
+    public BinaryTreeGenerator clone(){
+        return new BinaryTreeGenerator(store,mf,sleepDrawTime);
+    }
+}
@@ -0,0 +1,118 @@
+package MazeGeneratorClasses;
+
+import java.io.Serializable;
+import java.util.random.RandomGenerator;
+
+/**
+ * Chooses the next cell of the {@link GrowingTreeGenerator} from its active cells.
+ * The active cells are kept in an array in the order they were added, the oldest one at the head and the newest one before the tail.
+ * The choice decides the texture of the maze: always taking the newest cell gives the long corridors of the recursive backtracker,
+ * taking a random one gives the short dead ends of Prim's algorithm, and taking the oldest one gives long straight passages.
+ * A selector must choose in constant time, and it is saved with the generator, so it has to be serializable.
+ * Unless a selector asks for the exact order with {@link #needsOrder()}, every step of the generator takes constant time.
+ */
+public abstract class CellSelector implements Serializable {
+
+    /**
+     * Always chooses the newest cell, like the recursive backtracker.
+     */
+    public static final CellSelector NEWEST=new Newest();
+    /**
+     * Always chooses the oldest cell.
+     */
+    public static final CellSelector OLDEST=new Oldest();
+    /**
+     * Chooses a random cell, like Prim's algorithm.
+     */
+    public static final CellSelector RANDOM=new RandomCell();
+
+    /**
+     * Returns a selector that chooses the newest cell with the given probability, and a random cell otherwise.
+     * @param newestRatio the probability of choosing the newest cell, between 0 and 1
+     * @return the selector
+     */
+    public static CellSelector mixed(double newestRatio){
+        return new Mixed(newestRatio);
+    }
+
+    /**
+     * Chooses one of the active cells.
+     * @param head the position of the oldest active cell
+     * @param tail the position after the newest active cell, it is always greater than head
+     * @param rnd the random generator of the maze
+     * @return the position of the chosen cell, between head (inclusive) and tail (exclusive)
+     */
+    public abstract int select(int head, int tail, RandomGenerator rnd);
+
+    /**
+     * Tells whether the selector relies on the exact age order of the active cells, other than the newest one being at the end.
+     * By default it does not, and a cell removed from the middle is replaced by the oldest cell, which takes constant time.
+     * A selector that returns true keeps the exact order, but every removal from the middle then shifts the cells of the shorter side,
+     * which takes time proportional to the number of active cells.
+     * @return true if the order of the active cells has to be kept
+     */
+    public boolean needsOrder(){
+        return false;
+    }
+
+    private static class Newest extends CellSelector {
+        @Override
+        public int select(int head, int tail, RandomGenerator rnd){
+            return tail-1;
+        }
+
+        @Override
+        public String toString(){
+            return "newest";
+        }
+    }
+
+    private static class Oldest extends CellSelector {
+        @Override
+        public int select(int head, int tail, RandomGenerator rnd){
+            return head;
+        }
+
+        @Override
+        public String toString(){
+            return "oldest";
+        }
+    }
+
+    private static class RandomCell extends CellSelector {
+        @Override
+        public int select(int head, int tail, RandomGenerator rnd){
+            return tail-head>1 ? head+rnd.nextInt(tail-head) : head;
+        }
+
+        @Override
+        public String toString(){
+            return "random";
+        }
+    }
+
+    private static class Mixed extends CellSelector {
+        /**
+         * The probability of choosing the newest cell
+         */
+        private final double newestRatio;
+
+        Mixed(double newestRatio){
+            if(!(newestRatio>=0 && newestRatio<=1))
+                throw new IllegalArgumentException("Invalid ratio: "+newestRatio);
+            this.newestRatio=newestRatio;
+        }
+
+        @Override
+        public int select(int head, int tail, RandomGenerator rnd){
+            if(tail-head==1 || rnd.nextDouble()<newestRatio)
+                return tail-1;
+            return head+rnd.nextInt(tail-head);
+        }
+
+        @Override
+        public String toString(){
+            return "mixed "+newestRatio;
+        }
+    }
+}
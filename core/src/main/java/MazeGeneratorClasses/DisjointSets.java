@@ -0,0 +1,85 @@
+package MazeGeneratorClasses;
+
+import java.util.Arrays;
+
+/**
+ * A disjoint-set forest (union-find) over cell indices, with path compression and union by rank.
+ * Every cell starts in its own set, and finding or joining sets takes nearly constant time.
+ * The parents and the ranks share one array, so a step up the tree only touches a single array,
+ * which counts on huge mazes, where nearly every step is a cache miss.
+ */
+class DisjointSets {
+
+    /**
+     * The parent of each element in its tree. The roots represent the sets, they have no parent,
+     * instead they store -1-rank, where the rank is the upper bound of the height of the tree.
+     */
+    private final int[] parent;
+    /**
+     * The number of sets
+     */
+    private int count;
+
+    /**
+     * @param size the number of elements, each of them is put into its own set
+     */
+    DisjointSets(int size){
+        parent=new int[size];
+        Arrays.fill(parent, -1);
+        count=size;
+    }
+
+    /**
+     * @param idx an element
+     * @return the root of the set containing the element
+     */
+    int find(int idx){
+        int root=idx;
+        while(parent[root]>=0)
+            root=parent[root];
+        //Path compression: every element on the way points to the root from now on
+        while(idx!=root){
+            int next=parent[idx];
+            parent[idx]=root;
+            idx=next;
+        }
+        return root;
+    }
+
+    /**
+     * Joins the sets of two elements.
+     * @return true if the elements were in different sets
+     */
+    boolean union(int a, int b){
+        a=find(a);
+        b=find(b);
+        if(a==b)
+            return false;
+        //The shorter tree is hung under the taller one, so the trees stay flat.
+        //The ranks are stored negated, so the taller tree has the smaller value
+        if(parent[a]>parent[b]){
+            int t=a;
+            a=b;
+            b=t;
+        }
+        if(parent[a]==parent[b])
+            parent[a]--;
+        parent[b]=a;
+        count--;
+        return true;
+    }
+
+    /**
+     * @return true if the two elements are in the same set
+     */
+    boolean connected(int a, int b){
+        return find(a)==find(b);
+    }
+
+    /**
+     * @return {@link #count}, the number of sets
+     */
+    int count(){
+        return count;
+    }
+}
@@ -0,0 +1,161 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.MazeView;
+
+import java.io.IOException;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class implements Eller's algorithm for maze generation. Extends the base class RowGenerator.
+ * It builds the maze row by row, and only remembers which cells of the current row are connected (are in the same set).
+ * So it needs O(width) memory, no matter how tall the maze is, and the finished rows can be streamed to a {@link RowSink}
+ * instead of being kept, see {@link #generateRows(int, long, RowSink, RandomGenerator)}.
+ */
+public class EllersGenerator extends RowGenerator{
+
+    public EllersGenerator(MazeCell[][] maze, MazeView mf){
+        super(maze, mf);
+    }
+    public EllersGenerator(MazeCell[][] maze, MazeView mf, int t){
+        super(maze, mf, t);
+    }
+    public EllersGenerator(GridStore store){
+        this(store, null);
+    }
+    public EllersGenerator(GridStore store, MazeView mf){
+        super(store, mf);
+    }
+    public EllersGenerator(GridStore store, MazeView mf, int t){
+        super(store, mf, t);
+    }
+
+    @Override
+    protected void generateRows(RowSink sink, RandomGenerator rnd) throws IOException {
+        generateRows(store.getWidth(), store.getHeight(), sink, rnd);
+    }
+
+    /**
+     * Generates a maze with Eller's algorithm, and passes its rows to the sink as soon as they are finished.
+     * Only the sets of the current row are kept, so the height can be anything up to Long.MAX_VALUE.
+     * In every row, neighbouring cells of different sets are joined randomly, then every set is extended into the next row
+     * through at least one random cell. The last row joins all the remaining sets, so every cell can be reached.
+     * The entrance is the northern wall of the top left cell, the exit is the southern wall of a random cell in the last row.
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param sink the receiver of the rows
+     * @param rnd the random generator
+     * @throws IOException if the sink could not write a row
+     */
+    public static void generateRows(int width, long height, RowSink sink, RandomGenerator rnd) throws IOException {
+        if(width<1 || height<1)
+            throw new IllegalArgumentException("Invalid maze size: "+width+"x"+height);
+        //The walls of the cells of the current row
+        int[] walls=new int[width];
+        //The set of each cell. There are never more sets in a row than cells, so the sets are numbered from 0 to width-1
+        int[] set=new int[width];
+        //The sets joined in the current row form a small union-find forest
+        int[] parent=new int[width];
+        //The number of cells of each set that have not been checked for a passage to the next row
+        int[] remaining=new int[width];
+        //Whether a set already has a passage to the next row, or whether it is used in the next row
+        boolean[] flag=new boolean[width];
+
+        //The coin flips of the joins and the passages
+        RandomBits coin=new RandomBits(rnd);
+
+        //Every cell of the first row is in its own set
+        for(int x=0;x<width;x++)
+            set[x]=x;
+        //The entrance
+        walls[0]|=Directions.North.getBValue();
+
+        for(long y=0;y<height;y++){
+            boolean last=y==height-1;
+
+            //Joins neighbouring cells of different sets. In the last row every one of them is joined
+            for(int s=0;s<width;s++)
+                parent[s]=s;
+            for(int x=0;x<width-1;x++){
+                int a=find(parent, set[x]);
+                int b=find(parent, set[x+1]);
+                if(a!=b && (last || coin.nextBoolean())){
+                    walls[x]|=Directions.East.getBValue();
+                    walls[x+1]|=Directions.West.getBValue();
+                    parent[b]=a;
+                }
+            }
+            for(int x=0;x<width;x++)
+                set[x]=find(parent, set[x]);
+
+            if(last){
+                //The exit
+                walls[rnd.nextInt(width)]|=Directions.South.getBValue();
+                sink.acceptRow(y, walls);
+                break;
+            }
+
+            //Every set goes down through at least one cell: the last cell of a set goes down, if none of the others did
+            for(int s=0;s<width;s++){
+                remaining[s]=0;
+                flag[s]=false;
+            }
+            for(int x=0;x<width;x++)
+                remaining[set[x]]++;
+            for(int x=0;x<width;x++){
+                int s=set[x];
+                remaining[s]--;
+                if(coin.nextBoolean() || (remaining[s]==0 && !flag[s])){
+                    walls[x]|=Directions.South.getBValue();
+                    flag[s]=true;
+                }
+            }
+            sink.acceptRow(y, walls);
+
+            //Prepares the next row. The cells below a passage stay in the set above them, the rest get unused sets
+            for(int s=0;s<width;s++)
+                flag[s]=false;
+            for(int x=0;x<width;x++){
+                if((walls[x] & Directions.South.getBValue())!=0){
+                    walls[x]=Directions.North.getBValue();
+                    flag[set[x]]=true;
+                }
+                else{
+                    walls[x]=0;
+                    set[x]=-1;
+                }
+            }
+            int unused=0;
+            for(int x=0;x<width;x++){
+                if(set[x]<0){
+                    while(flag[unused])
+                        unused++;
+                    set[x]=unused;
+                    flag[unused]=true;
+                }
+            }
+        }
+        sink.finish();
+    }
+
+    /**
+     * @param parent the union-find forest of the sets
+     * @param s a set
+     * @return the set that the given set was joined to
+     */
+    private static int find(int[] parent, int s){
+        //Path halving keeps the trees flat
+        while(parent[s]!=s){
+            parent[s]=parent[parent[s]];
+            s=parent[s];
+        }
+        return s;
+    }
+
+    @Override
+    public EllersGenerator clone(){
+        return new EllersGenerator(store,mf,sleepDrawTime);
+    }
+}
@@ -0,0 +1,131 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.MazeView;
+import Maze.StepListener;
+import Maze.VisitMarks;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * This class implements the Growing Tree algorithm. Extends the base class MazeGenerator.
+ * The maze grows from a list of active cells: a cell is chosen by the {@link CellSelector}, and a random unvisited neighbour
+ * of it is added to the maze and to the list. A cell without unvisited neighbours is removed from the list.
+ * The recursive backtracker and Prim's algorithm are both special cases, with the newest and the random selector.
+ */
+public class GrowingTreeGenerator extends MazeGenerator {
+
+    /**
+     * The selector used if nothing else is given: half of the time the newest cell, otherwise a random one.
+     */
+    public static final CellSelector DEFAULT_SELECTOR=CellSelector.mixed(0.5);
+
+    /**
+     * Chooses the next cell from the active cells
+     */
+    private final CellSelector selector;
+
+    public GrowingTreeGenerator(MazeCell[][] maze, MazeView mf){
+        this(GridStore.of(maze), mf);
+    }
+    public GrowingTreeGenerator(MazeCell[][] maze, MazeView mf, int t){
+        this(GridStore.of(maze), mf, t);
+    }
+    public GrowingTreeGenerator(GridStore store){
+        this(store, null);
+    }
+    public GrowingTreeGenerator(GridStore store, MazeView mf){
+        this(store, mf, 0);
+    }
+    public GrowingTreeGenerator(GridStore store, MazeView mf, int t){
+        this(store, mf, t, DEFAULT_SELECTOR);
+    }
+    public GrowingTreeGenerator(GridStore store, MazeView mf, int t, CellSelector selector){
+        super(store, mf);
+        if(selector==null)
+            throw new IllegalArgumentException("The selector can not be null");
+        this.selector=selector;
+        this.sleepDrawTime=t;
+    }
+
+    /**
+     * @return {@link #selector}, the selector that chooses the next cell
+     */
+    public CellSelector getSelector(){
+        return selector;
+    }
+
+    /**
+     * Overrides the base class's method.
+     * Every cell is added to the active cells once, so they fit into an int array of the size of the maze,
+     * and the oldest and newest cells are at the two ends of the used part of the array.
+     * A cell from the middle is removed by moving the oldest cell into its place, so the newest cell stays at the end.
+     * Choosing, adding and removing a cell take constant time. Only a selector that asks for the exact order of the cells
+     * (see {@link CellSelector#needsOrder()}) has the shorter side of the array shifted into the gap instead, which is slower.
+     */
+    @Override
+    public void generateMaze(){
+        //The start of our maze
+        int current=store.index(0,0);
+        VisitMarks visited=store.getVisitMarks();
+        visited.clear();
+        visited.visit(current);
+        openEntrance();
+
+        RandomGenerator rnd=newRandom();
+        StepListener listener=stepListener();
+        //The active cells are between head and tail
+        int[] active=new int[store.size()];
+        int head=0, tail=0;
+        active[tail++]=current;
+        //The neighbours of a cell, in the order of the directions
+        int[] neighbours=new int[4];
+
+        while(head<tail){
+            int i=selector.select(head, tail, rnd);
+            current=active[i];
+            int n=unvisitedDirections(current, visited, neighbours);
+
+            //If there are no unvisited neighbours, the cell is removed from the active cells
+            if(n==0){
+                if(i==tail-1)
+                    tail--;
+                else if(i==head)
+                    head++;
+                else if(!selector.needsOrder())
+                    active[i]=active[head++];
+                else if(i-head<tail-1-i){
+                    //The older cells move up one slot
+                    System.arraycopy(active, head, active, head+1, i-head);
+                    head++;
+                }
+                else{
+                    //The newer cells move down one slot
+                    System.arraycopy(active, i+1, active, i, tail-1-i);
+                    tail--;
+                }
+                continue;
+            }
+
+            //We choose the next cell randomly, and open up the walls between the two cells
+            int count=Integer.bitCount(n);
+            Directions d=nthDirection(n, count>1 ? rnd.nextInt(count) : 0);
+            int next=neighbours[d.ordinal()];
+            store.openWall(current, d.getBValue());
+            store.openWall(next, d.getOpposite().getBValue());
+            visited.visit(next);
+            active[tail++]=next;
+
+            listener.step();
+        }
+        //Open up a southern wall in the last row in a random cell as a destination.
+        openExit(rnd);
+    }
+
+    @Override
+    public GrowingTreeGenerator clone(){
+        return new GrowingTreeGenerator(store, mf, sleepDrawTime, selector);
+    }
+}
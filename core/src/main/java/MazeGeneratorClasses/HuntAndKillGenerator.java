@@ -0,0 +1,123 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.MazeView;
+import Maze.StepListener;
+import Maze.VisitMarks;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class implements the Hunt-and-Kill algorithm. Extends the base class MazeGenerator.
+ * The kill phase is a random walk through unvisited cells, that carves a passage behind itself.
+ * When the walk gets stuck, the hunt phase looks for an unvisited cell next to the maze, connects it to the maze,
+ * and the walk continues from there. No stack is needed, as the walk never goes back.
+ * <p>
+ * The hunt looks for the first unvisited cell in row-major order. The rows before it are all visited, so the cell always has
+ * a visited neighbour, to the west or, at the start of a row, to the north. The number of unvisited cells of every row is counted,
+ * so the hunt skips the finished rows without reading their cells, and it continues the row where the last hunt stopped,
+ * as the cells before that have not become unvisited since. So all the hunts together read every cell at most once.
+ */
+public class HuntAndKillGenerator extends MazeGenerator {
+
+    public HuntAndKillGenerator(MazeCell[][] maze, MazeView mf){
+        super(maze, mf);
+    }
+    public HuntAndKillGenerator(MazeCell[][] maze, MazeView mf, int t){
+        this(maze, mf);
+        this.sleepDrawTime=t;
+    }
+    public HuntAndKillGenerator(GridStore store){
+        this(store, null);
+    }
+    public HuntAndKillGenerator(GridStore store, MazeView mf){
+        super(store, mf);
+    }
+    public HuntAndKillGenerator(GridStore store, MazeView mf, int t){
+        this(store, mf);
+        this.sleepDrawTime=t;
+    }
+
+    /**
+     * Overrides the base class's method.
+     * Generates a maze with the Hunt-and-Kill algorithm, in linear time.
+     */
+    @Override
+    public void generateMaze(){
+        int width=store.getWidth(), height=store.getHeight();
+        VisitMarks visited=store.getVisitMarks();
+        visited.clear();
+        //The number of unvisited cells in every row
+        int[] unvisitedInRow=new int[height];
+        Arrays.fill(unvisitedInRow, width);
+        int remaining=store.size();
+
+        RandomGenerator rnd=newRandom();
+        StepListener listener=stepListener();
+        //The neighbours of a cell, in the order of the directions
+        int[] neighbours=new int[4];
+
+        //The walk starts from the top left cell
+        int current=store.index(0,0);
+        visited.visit(current);
+        unvisitedInRow[0]--;
+        remaining--;
+        openEntrance();
+        //The position of the next hunt
+        int huntRow=0, huntCol=0;
+
+        while(remaining>0){
+            //Kill phase: we walk to a random unvisited neighbour, and open up the walls between the two cells
+            int n=unvisitedDirections(current, visited, neighbours);
+            if(n!=0){
+                int count=Integer.bitCount(n);
+                Directions d=nthDirection(n, count>1 ? rnd.nextInt(count) : 0);
+                int next=neighbours[d.ordinal()];
+                store.openWall(current, d.getBValue());
+                store.openWall(next, d.getOpposite().getBValue());
+                visited.visit(next);
+                unvisitedInRow[store.getY(next)]--;
+                remaining--;
+                current=next;
+                listener.step();
+                continue;
+            }
+
+            //Hunt phase: the finished rows are skipped, then the row is read from where the last hunt stopped
+            while(unvisitedInRow[huntRow]==0){
+                huntRow++;
+                huntCol=0;
+            }
+            while(visited.isVisited(store.index(huntCol, huntRow)))
+                huntCol++;
+            current=store.index(huntCol, huntRow);
+
+            //The cell is connected to a random visited neighbour, the one on the west or north is always visited
+            store.neighbours(current, neighbours);
+            int options=0;
+            for(Directions d : DIRECTIONS){
+                int idx=neighbours[d.ordinal()];
+                if(idx>=0 && visited.isVisited(idx))
+                    options|=d.getBValue();
+            }
+            int count=Integer.bitCount(options);
+            Directions d=nthDirection(options, count>1 ? rnd.nextInt(count) : 0);
+            store.openWall(current, d.getBValue());
+            store.openWall(neighbours[d.ordinal()], d.getOpposite().getBValue());
+            visited.visit(current);
+            unvisitedInRow[huntRow]--;
+            remaining--;
+            listener.step();
+        }
+        //Open up a southern wall in the last row in a random cell as a destination.
+        openExit(rnd);
+    }
+
+    @Override
+    public HuntAndKillGenerator clone(){
+        return new HuntAndKillGenerator(store, mf, sleepDrawTime);
+    }
+}
@@ -0,0 +1,47 @@
+package MazeGeneratorClasses;
+
+/**
+ * A LIFO stack of cell indices in an int array, that grows when it is full.
+ * Unlike a Stack of Integers, pushing and popping does not allocate anything.
+ */
+class IntStack {
+    private int[] elements;
+    private int size=0;
+
+    IntStack(){
+        this(16);
+    }
+
+    IntStack(int capacity){
+        elements=new int[Math.max(capacity,1)];
+    }
+
+    boolean isEmpty(){
+        return size==0;
+    }
+
+    int size(){
+        return size;
+    }
+
+    void push(int idx){
+        if(size==elements.length){
+            int[] bigger=new int[(int)Math.min((long)size*2, Integer.MAX_VALUE-8)];
+            System.arraycopy(elements, 0, bigger, 0, size);
+            elements=bigger;
+        }
+        elements[size++]=idx;
+    }
+
+    int pop(){
+        return elements[--size];
+    }
+
+    int peek(){
+        return elements[size-1];
+    }
+
+    void clear(){
+        size=0;
+    }
+}
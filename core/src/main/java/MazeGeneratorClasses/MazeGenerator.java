@@ -0,0 +1,493 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.StepListener;
+import Maze.VisitMarks;
+import Maze.MazeView;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * This implement the Recursive backtracker algorithm.
+ * As the most basic of the maze generation algorithm, this will be the base class of many other classes.
+ * The generators work directly on the {@link GridStore} of the maze, the cells are addressed by their indices.
+ */
+public class MazeGenerator implements Cloneable, Serializable {
+    /**
+     * The store, in which the walls of our maze are kept.
+     * It is not serialized with the generator, the {@link Maze.Maze} that owns it decides how the walls are saved.
+     */
+    transient GridStore store;
+    /**
+     * The 2D array view of the store. Only used by the panel and the helper methods that work with MazeCell objects.
+     */
+    transient MazeCell[][] maze;
+    /**
+     * The view on which the maze will be drawn on.
+     */
+    protected transient MazeView mf;
+    /**
+     * The amount of time the UI waits after each sub-step. The generator itself never waits,
+     * the delay is only kept, so the UI can draw a loaded maze at the same speed with its own listener.
+     */
+    protected int sleepDrawTime=0;
+    /**
+     * The listener that is notified after each sub-step, or null if nothing is notified.
+     */
+    private transient StepListener stepListener;
+    /**
+     * The seed of the random generator. If it is not fixed, every generation draws a new one,
+     * so this is always the seed of the last maze, which can be regenerated from it.
+     */
+    private long seed;
+    /**
+     * Whether the seed was fixed by {@link #setSeed(long)}, or each generation draws a new one.
+     */
+    private boolean seedFixed=false;
+    /**
+     * The four directions. Directions.values() copies the array on every call, so the hot loops use this instead.
+     */
+    protected static final Directions[] DIRECTIONS=Directions.values();
+
+    public MazeGenerator(MazeCell[][] maze, MazeView mf){
+        this.store=GridStore.of(maze);
+        this.maze=maze;
+        this.mf=mf;
+        if(mf!=null)
+            mf.setMaze(maze);
+    }
+    public MazeGenerator(MazeCell[][] maze, MazeView mf, int sleepDrawTime){
+        this(maze,mf);
+        this.sleepDrawTime=sleepDrawTime;
+    }
+    /**
+     * Creates a generator that does not draw the maze.
+     * @param store the store in which the maze is generated
+     */
+    public MazeGenerator(GridStore store){
+        this(store, null);
+    }
+    public MazeGenerator(GridStore store, MazeView mf){
+        this.store=store;
+        this.mf=mf;
+        //The view is only needed if the maze is drawn
+        if(mf!=null){
+            maze=store.getCells();
+            mf.setMaze(maze);
+        }
+    }
+    public MazeGenerator(GridStore store, MazeView mf, int sleepDrawTime){
+        this(store,mf);
+        this.sleepDrawTime=sleepDrawTime;
+    }
+
+    /**
+     * Sets the sleep time to the given value
+     * @param t
+     */
+    public void setSleepDrawTime(int t){
+        sleepDrawTime=t;
+    }
+
+    /**
+     *
+     * @return {@link #sleepDrawTime}, which indicates the amount of time the thread has to sleep after each sub-step.
+     */
+    public int getSleepDrawTime() {
+        return sleepDrawTime;
+    }
+
+    /**
+     * Sets the listener that is notified after each sub-step of the algorithm. The UI draws the maze with it.
+     * @param stepListener the listener, or null if nothing has to be notified
+     */
+    public void setStepListener(StepListener stepListener){
+        this.stepListener=stepListener;
+    }
+
+    /**
+     * Returns the listener that is notified after each sub-step. The algorithms call this once per maze, not in their loops.
+     * @return the listener that was set, or {@link StepListener#NONE}
+     */
+    public StepListener stepListener(){
+        return stepListener!=null ? stepListener : StepListener.NONE;
+    }
+
+    /**
+     * @return {@link #store}, the store in which the maze is generated
+     */
+    public GridStore getStore(){
+        return store;
+    }
+
+    /**
+     * Sets the store in which the maze is generated, for example after the generator was loaded from a file.
+     * @param store the new store
+     */
+    public void setStore(GridStore store){
+        this.store=store;
+        maze=null;
+        if(mf!=null)
+            mf.setMaze(cells());
+    }
+
+    /**
+     * Sets the panel on which the maze is drawn, for example after the generator was loaded from a file.
+     * @param mf the panel, or null if the maze is not drawn
+     */
+    public void setPanel(MazeView mf){
+        this.mf=mf;
+        if(mf!=null)
+            mf.setMaze(cells());
+    }
+
+    /**
+     * Fixes the seed of the random generator, so every generation creates the same maze.
+     * @param seed the seed
+     */
+    public void setSeed(long seed){
+        this.seed=seed;
+        seedFixed=true;
+    }
+
+    /**
+     * Unfixes the seed, so every generation draws a new one.
+     */
+    public void clearSeed(){
+        seedFixed=false;
+    }
+
+    /**
+     * @return {@link #seed}, the fixed seed, or the seed of the last maze if it is not fixed
+     */
+    public long getSeed(){
+        return seed;
+    }
+
+    /**
+     * @return true if the seed is fixed, false if every generation draws a new one
+     */
+    public boolean isSeedFixed(){
+        return seedFixed;
+    }
+
+    /**
+     * Generates the maze with the given seed, without fixing the seed of the later generations.
+     * @param seed the seed
+     */
+    public void generateMaze(long seed){
+        boolean fixed=seedFixed;
+        long fixedSeed=this.seed;
+        setSeed(seed);
+        try{
+            generateMaze();
+        }
+        finally{
+            seedFixed=fixed;
+            if(fixed)
+                this.seed=fixedSeed;
+        }
+    }
+
+    /**
+     * Creates the random generator of a new maze. If the seed is not fixed, it draws a new one first.
+     * The generators only take their random numbers from here, so the maze depends on nothing but the seed.
+     * SplittableRandom is faster than Random, as it does not synchronize, and it can be split into independent streams.
+     * @return a new random generator, seeded with {@link #seed}
+     */
+    protected RandomGenerator.SplittableGenerator newRandom(){
+        if(!seedFixed)
+            seed=ThreadLocalRandom.current().nextLong();
+        return new SplittableRandom(seed);
+    }
+
+    /**
+     * Whether the same seed always generates the same maze.
+     * Generators whose result depends on the scheduling of their threads must return false,
+     * then the maze is not saved as its seed, but as its walls.
+     * @return true if the maze can be regenerated from its seed
+     */
+    public boolean isReproducible(){
+        return true;
+    }
+
+    /**
+     * It generates a maze using the algorithm.
+     * The path is kept on a stack of cell indices, and the unvisited neighbours of a cell are collected into a bitmask,
+     * so a step does not allocate anything. A cell is pushed right after it is visited, so it can never be on the stack twice.
+     */
+    public void generateMaze(){
+        //Marks the cells that have already been added to the maze
+        VisitMarks visited=store.getVisitMarks();
+        visited.clear();
+        //Stack used for the backtracking algorithm
+        IntStack stack=new IntStack();
+        //The starting cell is pushed to the stack.
+        int current=store.index(0,0);
+        visited.visit(current);
+        stack.push(current);
+        //We open up the northern wall of the starting cell
+        openEntrance();
+        RandomGenerator rnd=newRandom();
+        StepListener listener=stepListener();
+
+
+        //The neighbours of the current cell, in the order of the directions
+        int[] neighbours=new int[4];
+
+        while(!stack.isEmpty()){
+
+            //The directions of all the valid, non-visited neighbours
+            int n=unvisitedDirections(current, visited, neighbours);
+
+            //If there are none, this is a dead end
+            //We remove the cell from the stack and backtrack
+            if(n==0){
+                stack.pop();
+                if(!stack.isEmpty()) {
+                    current = stack.peek();
+                }
+                continue;
+            }
+
+            //We choose the next cell randomly
+            int count=Integer.bitCount(n);
+            Directions d=nthDirection(n, count>1 ? rnd.nextInt(count) : 0);
+
+            //We open up the walls between the two cells
+            int next=neighbours[d.ordinal()];
+            store.openWall(current, d.getBValue());
+            store.openWall(next, d.getOpposite().getBValue());
+            visited.visit(next);
+            current=next;
+
+            listener.step();
+            stack.push(current);
+
+        }
+        //Open up a southern wall in the last row in a random cell as a destination.
+        openExit(rnd);
+
+
+
+    }
+    public MazeGenerator clone(){
+        return new MazeGenerator(store,mf,sleepDrawTime);
+    }
+
+    /**
+     * Returns the indices of the cells that are adjacent to the given cell and have not been visited yet.
+     * @param idx The index of the cell
+     * @param visited The cells that have already been visited
+     * @return a list of cell indices that are neighbouring to the current one, but have yet to be visited.
+     */
+    protected List<Integer> validNeighbours(int idx, VisitMarks visited){
+        List<Integer> neighbours=new ArrayList<>();
+        for(Directions d: DIRECTIONS){
+            int n=store.neighbour(idx, d);
+            if(n>=0 && !visited.isVisited(n)){
+                neighbours.add(n);
+            }
+        }
+        return neighbours;
+    }
+
+    /**
+     * Returns the directions in which the cell has a valid neighbour that has not been visited yet.
+     * @param idx The index of the cell
+     * @param visited The cells that have already been visited
+     * @param neighbours An array of 4, that receives the index of the neighbour in each direction, or -1 if there is none
+     * @return the bit values of the directions, as a 4 bit number
+     */
+    protected int unvisitedDirections(int idx, VisitMarks visited, int[] neighbours){
+        store.neighbours(idx, neighbours);
+        int directions=0;
+        for(Directions d: DIRECTIONS){
+            int n=neighbours[d.ordinal()];
+            if(n>=0 && !visited.isVisited(n))
+                directions|=d.getBValue();
+        }
+        return directions;
+    }
+
+    /**
+     * Returns the nth direction of a set of directions, in the order of {@link Directions#values()}.
+     * This is the same order in which {@link #validNeighbours(int, VisitMarks)} lists the neighbours.
+     * @param directions the bit values of the directions, as a 4 bit number
+     * @param n the position of the direction in the set, starting from 0
+     * @return the chosen direction
+     */
+    protected static Directions nthDirection(int directions, int n){
+        for(int i=0;i<n;i++)
+            directions&=directions-1;
+        return Directions.getDirectionFromValue(Integer.lowestOneBit(directions));
+    }
+
+    /**
+     * Same as {@link #validNeighbours(int, VisitMarks)}, except it does not check if the cell has been visited.
+     * @param idx The index of the cell
+     * @return a list of all the cell indices that are adjacent to the current one
+     */
+    protected List<Integer> allNeighbours(int idx){
+        List<Integer> neighbours=new ArrayList<>();
+        for(Directions d: DIRECTIONS){
+            int n=store.neighbour(idx, d);
+            if(n>=0){
+                neighbours.add(n);
+            }
+        }
+        return neighbours;
+    }
+
+    /**
+     * Opens up the walls between two neighbouring cells.
+     * @param from The index of the first cell
+     * @param to The index of the second cell
+     */
+    protected void connect(int from, int to){
+        for(Directions d: DIRECTIONS){
+            if(store.neighbour(from, d)==to){
+                store.openPassage(from, d);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the wall between a cell and its neighbour in the given direction.
+     * Every cell owns its eastern and southern wall, the id of a wall is the index of its owner times two, plus one for a southern wall.
+     * So both cells see the same id for the wall between them, and the walls fit into an int array, without an object for each of them.
+     * The id is an unsigned number: it is negative for the cells from 2^30 on, so it must only be read by {@link #wallCell(int)}
+     * and {@link #wallDirection(int)}, and never used as an index.
+     * @param idx The index of the cell
+     * @param d The direction of the neighbour, it must be inside the maze
+     * @return the id of the wall
+     */
+    protected int wallId(int idx, Directions d){
+        switch(d){
+            case East:
+                return idx<<1;
+            case South:
+                return idx<<1 | 1;
+            case West:
+                return store.neighbour(idx, d)<<1;
+            default:
+                return store.neighbour(idx, d)<<1 | 1;
+        }
+    }
+
+    /**
+     * @param wall The id of a wall
+     * @return the index of the cell that owns the wall, which is the western or northern one of the two cells
+     */
+    protected static int wallCell(int wall){
+        return wall>>>1;
+    }
+
+    /**
+     * @param wall The id of a wall
+     * @return the direction of the wall from the cell that owns it, East or South
+     */
+    protected static Directions wallDirection(int wall){
+        return (wall & 1)==0 ? Directions.East : Directions.South;
+    }
+
+    /**
+     * Opens up the northern wall of the top left cell, which is the entrance of the maze.
+     */
+    protected void openEntrance(){
+        store.openWall(store.index(0,0), Directions.North.getBValue());
+    }
+
+    /**
+     * Opens up the southern wall of a random cell in the last row. That cell will be the exit.
+     * @param rnd The random generator used for choosing the cell
+     */
+    protected void openExit(RandomGenerator rnd){
+        store.openWall(store.index(rnd.nextInt(store.getWidth()), store.getHeight()-1), Directions.South.getBValue());
+    }
+
+    /**
+     * @return the 2D array view of the store. It is created if we did not need it so far.
+     */
+    MazeCell[][] cells(){
+        if(maze==null)
+            maze=store.getCells();
+        return maze;
+    }
+
+    /**
+     * Returns a list of MazeCell objects that have not been visited and are adjacent to the current maze cell.
+     * Works on the MazeCell view of the maze.
+     * @param x The x coordinate of the cell
+     * @param y The y coordinate of the cell
+     * @return a list of MazeCell objects that are neighbouring to the current one, but have yet to be visited.
+     */
+    public List<MazeCell> returnValidNeighbours(int x, int y){
+        MazeCell[][] maze=cells();
+        List<MazeCell> neighbours=new ArrayList<>();
+        for(Directions d: Directions.values()){
+            if(x+d.getXOffset() >= 0 && x+d.getXOffset() < maze[0].length &&
+                    y+d.getYOffset()>=0 && y+d.getYOffset() < maze.length &&
+                    !maze[y + d.getYOffset()][x + d.getXOffset()].isVisited()){
+                neighbours.add(maze[y+d.getYOffset()][x+d.getXOffset()]);
+            }
+        }
+
+        return neighbours;
+    }
+
+    //Returns all the neighbours of the cell at the given position
+    //Same as the MazeGenerator.returnValidNeighbours except it does not check if the cell has been visited
+    public List<MazeCell> returnAllNeighbours(int x, int y){
+        MazeCell[][] maze=cells();
+        List<MazeCell> neighbours=new ArrayList<>();
+        for(Directions d: Directions.values()){
+            if(x+d.getXOffset() >= 0 && x+d.getXOffset() < maze[0].length &&
+                    y+d.getYOffset()>=0 && y+d.getYOffset() < maze.length){
+                neighbours.add(maze[y+d.getYOffset()][x+d.getXOffset()]);
+            }
+        }
+
+        return neighbours;
+    }
+
+    /**
+     * Sets all the cells in the maze to unvisited.
+     * The visited flags are epoch stamps, so this does not have to touch the cells.
+     */
+    public void setAllToUnvisited(){
+        store.getVisitMarks().clear();
+    }
+
+    /**
+     * Resets the maze to its original state, meaning no cell has been visited and all walls are closed.
+     */
+    public void resetMaze(){
+        store.clear();
+        setAllToUnvisited();
+    }
+
+
+    public boolean equals(Object obj) {
+        if (obj == null)
+            return false;
+        if (obj.getClass() != this.getClass())
+            return false;
+        final MazeGenerator other = (MazeGenerator) obj;
+        if (!Objects.equals(this.store, other.store))
+            return false;
+        if (!Objects.equals(this.mf, other.mf))
+            return false;
+        if(this.sleepDrawTime!=(other.sleepDrawTime))
+            return false;
+
+
+        return true;
+    }
+}
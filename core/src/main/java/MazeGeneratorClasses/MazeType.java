@@ -0,0 +1,78 @@
+package MazeGeneratorClasses;
+
+import Maze.GridStore;
+import Maze.MazeView;
+
+/**
+ * An enumerator that enumerates the types of maze generation algorithms
+ */
+public enum MazeType {
+    AldousBroderGenerator("Aldous-Broder Algorithm"),
+    AldousBroderWilsonGenerator("Aldous-Broder + Wilson's Algorithm"),
+    BinaryTreeGenerator("Binary Tree Algorithm"),
+    EllersGenerator("Eller's Algorithm"),
+    GrowingTreeGenerator("Growing Tree Algorithm"),
+    HuntAndKillGenerator("Hunt-and-Kill Algorithm"),
+    MazeGenerator("Recursive Backtracker Algorithm"),
+    OriginShiftGenerator("Origin Shift Algorithm"),
+    RKruskalsGenerator("Randomized Kruskal's Algorithm"),
+    RPrimsGenerator("Randomized Prim's Algorithm"),
+    RecursiveDivision("Recursive Division Algorithm"),
+    SidewinderGenerator("Sidewinder Algorithm"),
+    WilsonGenerator("Wilson's Algorithm");
+
+    /**
+     * The name of the algorithm the maze was generated with.
+     */
+    String name;
+    MazeType(String name){
+        this.name=name;
+    }
+
+    /**
+     * Creates a generator of this type.
+     * @param store the store in which the maze is generated
+     * @param mf the panel on which the maze is drawn, or null
+     * @param delay the amount of time the generator sleeps after each sub-step
+     * @return a new generator
+     */
+    public MazeGenerator createGenerator(GridStore store, MazeView mf, int delay){
+        switch(this){
+            case AldousBroderGenerator:
+                return new AldousBroderGenerator(store, mf, delay);
+            case AldousBroderWilsonGenerator:
+                return new AldousBroderWilsonGenerator(store, mf, delay);
+            case BinaryTreeGenerator:
+                return new BinaryTreeGenerator(store, mf, delay);
+            case EllersGenerator:
+                return new EllersGenerator(store, mf, delay);
+            case GrowingTreeGenerator:
+                return new GrowingTreeGenerator(store, mf, delay);
+            case HuntAndKillGenerator:
+                return new HuntAndKillGenerator(store, mf, delay);
+            case OriginShiftGenerator:
+                return new OriginShiftGenerator(store, mf, delay);
+            case RKruskalsGenerator:
+                return new RKruskalsGenerator(store, mf, delay);
+            case RPrimsGenerator:
+                return new RPrimsGenerator(store, mf, delay);
+            case RecursiveDivision:
+                return new RecursiveDivisionGenerator(store, mf, delay);
+            case SidewinderGenerator:
+                return new SidewinderGenerator(store, mf, delay);
+            case WilsonGenerator:
+                return new WilsonsGenerator(store, mf, delay);
+            default:
+                return new MazeGenerator(store, mf, delay);
+        }
+    }
+
+    /**
+     *
+     * @return a string with the name of the object
+     */
+    @Override
+    public String toString(){
+        return name;
+    }
+}
@@ -0,0 +1,349 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.MazeView;
+import Maze.StepListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class implements the Origin Shift algorithm. The maze is kept as a directed tree:
+ * every cell points to its parent, except the root, the origin. The passages of the maze are the edges of the tree.
+ * A shift moves the origin to a random neighbour: the old origin points to the new one, and the new one loses its parent.
+ * So a shift opens at most one wall and closes at most one, and the maze stays perfect after every shift.
+ * A new maze is a simple tree that is shifted {@link #shiftsPerCell} times per cell, the shifts after that keep changing
+ * the finished maze, and every changed wall is passed to the listeners, so they do not have to look at the whole maze.
+ */
+public class OriginShiftGenerator extends MazeGenerator{
+
+    /**
+     * The number of shifts per cell for a new maze, if nothing else is given.
+     */
+    public static final int DEFAULT_SHIFTS_PER_CELL=10;
+    /**
+     * The value of the root in {@link #parents}
+     */
+    private static final byte NO_PARENT=-1;
+
+    /**
+     * The number of shifts per cell, that turn the starting tree into a random maze
+     */
+    private final int shiftsPerCell;
+    /**
+     * The direction of the parent of every cell as the ordinal of a direction, or NO_PARENT for the origin.
+     * It is rebuilt from the walls of the store when it is needed and missing or out of date, for example after loading.
+     */
+    private transient byte[] parents;
+    /**
+     * The store that the tree belongs to
+     */
+    private transient GridStore treeStore;
+    /**
+     * The fingerprint of the store when the tree last matched its walls. If it changes, the walls were written by something else.
+     */
+    private transient long treeFingerprint;
+    /**
+     * The index of the origin, the root of the tree
+     */
+    private transient int origin;
+    /**
+     * The random generator of the shifts, it continues the one that generated the maze
+     */
+    private transient RandomGenerator random;
+    /**
+     * The listeners that get the changed walls of the shifts, besides the step listener of the generator.
+     * Created by the first listener, as it is not saved with the generator.
+     */
+    private transient List<StepListener> wallListeners;
+
+    public OriginShiftGenerator(MazeCell[][] maze, MazeView mf){
+        this(GridStore.of(maze), mf);
+    }
+    public OriginShiftGenerator(MazeCell[][] maze, MazeView mf, int t){
+        this(GridStore.of(maze), mf, t);
+    }
+    public OriginShiftGenerator(GridStore store){
+        this(store, null);
+    }
+    public OriginShiftGenerator(GridStore store, MazeView mf){
+        this(store, mf, 0);
+    }
+    public OriginShiftGenerator(GridStore store, MazeView mf, int t){
+        this(store, mf, t, DEFAULT_SHIFTS_PER_CELL);
+    }
+    public OriginShiftGenerator(GridStore store, MazeView mf, int t, int shiftsPerCell){
+        super(store, mf);
+        if(shiftsPerCell<0)
+            throw new IllegalArgumentException("Invalid number of shifts: "+shiftsPerCell);
+        this.shiftsPerCell=shiftsPerCell;
+        this.sleepDrawTime=t;
+    }
+
+    /**
+     * @return {@link #shiftsPerCell}, the number of shifts per cell, that turn the starting tree into a random maze
+     */
+    public int getShiftsPerCell(){
+        return shiftsPerCell;
+    }
+
+    /**
+     * Adds a listener, whose {@link StepListener#wallChanged(int, Directions, boolean)} is called for every wall that a shift changes.
+     * @param listener the listener
+     */
+    public synchronized void addWallListener(StepListener listener){
+        if(wallListeners==null)
+            wallListeners=new CopyOnWriteArrayList<>();
+        wallListeners.add(listener);
+    }
+
+    /**
+     * @param listener a listener that was added by {@link #addWallListener(StepListener)}
+     */
+    public synchronized void removeWallListener(StepListener listener){
+        if(wallListeners!=null)
+            wallListeners.remove(listener);
+    }
+
+    /**
+     * Generates a maze with the Origin Shift algorithm.
+     * The starting tree is the rows pointing east and the last column pointing south, with the origin in the bottom right corner.
+     * The shifts only change the tree, the walls are written once at the end.
+     */
+    @Override
+    public void generateMaze(){
+        RandomGenerator rnd=newRandom();
+        StepListener listener=stepListener();
+        int width=store.getWidth(), height=store.getHeight();
+        byte[] parents=new byte[store.capacity()];
+        for(int y=0;y<height;y++){
+            for(int x=0;x<width;x++){
+                Directions d=x<width-1 ? Directions.East : y<height-1 ? Directions.South : null;
+                parents[store.index(x,y)]=d==null ? NO_PARENT : (byte)d.ordinal();
+            }
+        }
+        int origin=store.index(width-1, height-1);
+
+        if(store.size()>1){
+            long shifts=(long)store.size()*shiftsPerCell;
+            for(long i=0;i<shifts;i++){
+                Directions d=randomDirection(origin, rnd);
+                int next=store.neighbour(origin, d);
+                parents[origin]=(byte)d.ordinal();
+                parents[next]=NO_PARENT;
+                origin=next;
+            }
+        }
+
+        //Every cell opens the wall towards its parent
+        for(int y=0;y<height;y++){
+            for(int x=0;x<width;x++){
+                int idx=store.index(x,y);
+                if(parents[idx]!=NO_PARENT)
+                    store.openPassage(idx, DIRECTIONS[parents[idx]]);
+            }
+            listener.step();
+        }
+        openEntrance();
+        openExit(rnd);
+
+        synchronized(this){
+            this.parents=parents;
+            this.origin=origin;
+            this.treeStore=store;
+            this.treeFingerprint=store.fingerprint();
+            this.random=rnd;
+        }
+    }
+
+    /**
+     * Chooses a random direction from the cell, that leads to another cell of the maze.
+     * Only the cells on the border have directions that lead out, so it takes less than two tries on average.
+     * @param idx the index of the cell
+     * @param rnd the random generator
+     * @return the direction of a neighbour
+     */
+    private Directions randomDirection(int idx, RandomGenerator rnd){
+        Directions d;
+        do{
+            d=DIRECTIONS[rnd.nextInt(4)];
+        }while(store.neighbour(idx, d)<0);
+        return d;
+    }
+
+    /**
+     * Moves the origin to a random neighbour, the given number of times. Every shift changes at most two walls,
+     * which are passed to the step listener of the generator and to the wall listeners. The maze stays perfect after every shift.
+     * @param steps the number of shifts
+     */
+    public synchronized void shift(int steps){
+        ensureTree();
+        if(store.size()<2)
+            return;
+        StepListener listener=stepListener();
+        for(int i=0;i<steps;i++){
+            Directions d=randomDirection(origin, random);
+            int next=store.neighbour(origin, d);
+            byte oldParent=parents[next];
+            parents[origin]=(byte)d.ordinal();
+            parents[next]=NO_PARENT;
+            //If the new origin was a child of the old one, the passage between them stays, only its direction changes
+            if(oldParent!=d.getOpposite().ordinal()){
+                store.openPassage(origin, d);
+                notifyWall(listener, origin, d, true);
+                Directions closed=DIRECTIONS[oldParent];
+                store.closePassage(next, closed);
+                notifyWall(listener, next, closed, false);
+            }
+            origin=next;
+        }
+        treeFingerprint=store.fingerprint();
+    }
+
+    /**
+     * Passes a changed wall to the step listener and the wall listeners.
+     */
+    private void notifyWall(StepListener listener, int idx, Directions d, boolean open){
+        listener.wallChanged(idx, d, open);
+        if(wallListeners!=null){
+            for(StepListener l : wallListeners)
+                l.wallChanged(idx, d, open);
+        }
+    }
+
+    /**
+     * @return the index of the origin, the root of the tree
+     */
+    public synchronized int getOrigin(){
+        ensureTree();
+        return origin;
+    }
+
+    /**
+     * Returns the path between two cells, by walking up the tree from both of them until they meet.
+     * It only reads the cells of the two branches, so it does not search the maze.
+     * @param from the index of the first cell
+     * @param to the index of the last cell
+     * @return the indices of the cells of the path, from the first cell to the last
+     */
+    public synchronized int[] path(int from, int to){
+        ensureTree();
+        IntStack up=ancestors(from);
+        IntStack down=ancestors(to);
+        //Both branches end at the origin, the common part is dropped, except for the cell where they meet
+        int meet=-1;
+        while(!up.isEmpty() && !down.isEmpty() && up.peek()==down.peek()){
+            meet=up.pop();
+            down.pop();
+        }
+        //The branch of the first cell is popped from the meeting point backwards, the branch of the last cell forwards
+        int n=up.size();
+        int[] path=new int[n+1+down.size()];
+        for(int i=n-1;i>=0;i--)
+            path[i]=up.pop();
+        path[n]=meet;
+        for(int i=n+1;i<path.length;i++)
+            path[i]=down.pop();
+        return path;
+    }
+
+    /**
+     * @param idx the index of a cell
+     * @return the cell and all of its ancestors, with the origin on the top of the stack
+     */
+    private IntStack ancestors(int idx){
+        IntStack stack=new IntStack();
+        stack.push(idx);
+        while(parents[idx]!=NO_PARENT){
+            idx=store.neighbour(idx, DIRECTIONS[parents[idx]]);
+            stack.push(idx);
+        }
+        return stack;
+    }
+
+    /**
+     * Rebuilds the tree from the walls of the store, if the maze was not generated by this object, it was loaded,
+     * or its walls were changed by something else since the tree was built.
+     * The top left cell becomes the origin, and every cell points towards the cell it was reached from in a breadth-first search.
+     * If the walls are not a perfect maze, the tree still covers every cell: a cell that can not be reached is joined to its western
+     * or northern neighbour, and the passages that would make loops are left out. The walls are then changed to match the tree,
+     * and the changes are passed to the listeners.
+     */
+    private void ensureTree(){
+        if(parents!=null && treeStore==store && treeFingerprint==store.fingerprint())
+            return;
+        parents=new byte[store.capacity()];
+        Arrays.fill(parents, NO_PARENT);
+        origin=store.index(0,0);
+        int[] queue=new int[store.size()];
+        int head=0, tail=0;
+        boolean[] reached=new boolean[store.capacity()];
+        int width=store.getWidth(), height=store.getHeight();
+        //The cells are taken in row-major order, so the cells before the current one are all reached,
+        //and an unreached cell can always be joined to the previous cell of its row, or to the cell above the first one
+        for(int y=0;y<height;y++){
+            for(int x=0;x<width;x++){
+                int idx=store.index(x,y);
+                if(reached[idx])
+                    continue;
+                if(idx!=origin)
+                    parents[idx]=(byte)(x>0 ? Directions.West : Directions.North).ordinal();
+                reached[idx]=true;
+                queue[tail++]=idx;
+                while(head<tail){
+                    int current=queue[head++];
+                    int walls=store.getWalls(current);
+                    for(Directions d : DIRECTIONS){
+                        int n=store.neighbour(current, d);
+                        if((walls & d.getBValue())!=0 && n>=0 && !reached[n]){
+                            reached[n]=true;
+                            parents[n]=(byte)d.getOpposite().ordinal();
+                            queue[tail++]=n;
+                        }
+                    }
+                }
+            }
+        }
+        matchWalls();
+        treeStore=store;
+        treeFingerprint=store.fingerprint();
+        if(random==null)
+            random=newRandom();
+    }
+
+    /**
+     * Opens the passages of the tree and closes every other passage inside the maze, the entrance and the exit are kept.
+     * Every changed wall is passed to the listeners.
+     */
+    private void matchWalls(){
+        StepListener listener=stepListener();
+        for(int y=0;y<store.getHeight();y++){
+            for(int x=0;x<store.getWidth();x++){
+                int idx=store.index(x,y);
+                //Every passage is checked once, from its western or northern cell
+                for(Directions d : new Directions[]{Directions.East, Directions.South}){
+                    int n=store.neighbour(idx, d);
+                    if(n<0)
+                        continue;
+                    boolean inTree=parents[idx]==d.ordinal() || parents[n]==d.getOpposite().ordinal();
+                    if(inTree!=store.isOpen(idx, d)){
+                        if(inTree)
+                            store.openPassage(idx, d);
+                        else
+                            store.closePassage(idx, d);
+                        notifyWall(listener, idx, d, inTree);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public OriginShiftGenerator clone(){
+        return new OriginShiftGenerator(store, mf, sleepDrawTime, shiftsPerCell);
+    }
+}
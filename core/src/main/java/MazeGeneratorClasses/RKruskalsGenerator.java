@@ -0,0 +1,115 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.StepListener;
+import Maze.MazeView;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Class that implements the Randomized Kruskal's algorithm for maze generation. Extends the RPrimGenerator class.
+ * As opposed to other methods, this algorithm (just like Prim's) works with the idea of walls, instead of cells.
+ */
+public class RKruskalsGenerator extends RPrimsGenerator{
+
+    /**
+     * The walls are kept in blocks of 2^30 ids, so a maze of more than 2^30 cells does not overflow a single array
+     */
+    private static final int WALL_BLOCK_BITS=30;
+    private static final long WALL_BLOCK=1L<<WALL_BLOCK_BITS;
+
+    public RKruskalsGenerator(MazeCell[][] maze, MazeView mf){
+        super(maze,mf);
+    }
+    public RKruskalsGenerator(MazeCell[][] maze, MazeView mf, int t){
+        super(maze,mf,t);
+    }
+    public RKruskalsGenerator(GridStore store){
+        this(store, null);
+    }
+    public RKruskalsGenerator(GridStore store, MazeView mf){
+        super(store,mf);
+    }
+    public RKruskalsGenerator(GridStore store, MazeView mf, int t){
+        super(store,mf,t);
+    }
+    public RKruskalsGenerator clone(){
+        return new RKruskalsGenerator(store, mf, sleepDrawTime);
+    }
+
+    /**
+     * Generates a maze based on the Randomized Kruskal's algorithm.
+     * It works be selecting walls in a random order, checking if the cells on the two sides of the wall are in the same set, and if not, joining the two sets.
+     * Two cells are in the same set if there is a path between them.
+     * The sets are kept in a {@link DisjointSets} forest, and the walls are int ids in a shuffled array, so no objects are created for them.
+     */
+    @Override
+    public void generateMaze() {
+        //Opens up the entrance to the maze
+        openEntrance();
+
+        //The sets contain the cells which can be accessed from one another. Initially each cell is in its own set.
+        DisjointSets sets=new DisjointSets(store.capacity());
+        //The ids of all the inner walls in the maze. Every cell owns its eastern and southern wall.
+        //A maze can have almost twice as many walls as an array can hold, so they are kept in blocks, see wallAt.
+        long count=(long)(store.getWidth()-1)*store.getHeight()+(long)store.getWidth()*(store.getHeight()-1);
+        int[][] walls=new int[(int)((count+WALL_BLOCK-1)/WALL_BLOCK)][];
+        for(int b=0;b<walls.length;b++)
+            walls[b]=new int[(int)Math.min(WALL_BLOCK, count-(long)b*WALL_BLOCK)];
+        long n=0;
+        for(int cell=0;cell<store.capacity();cell++){
+            if(!store.isCell(cell))
+                continue;
+            if(store.neighbour(cell, Directions.East)>=0)
+                setWallAt(walls, n++, wallId(cell, Directions.East));
+            if(store.neighbour(cell, Directions.South)>=0)
+                setWallAt(walls, n++, wallId(cell, Directions.South));
+        }
+
+        RandomGenerator rnd=newRandom();
+        StepListener listener=stepListener();
+        //Shuffles the walls (Fisher-Yates), so they can simply be taken in order
+        for(long i=count-1;i>0;i--){
+            long j=count<=Integer.MAX_VALUE ? rnd.nextInt((int)i+1) : rnd.nextLong(i+1);
+            int t=wallAt(walls, i);
+            setWallAt(walls, i, wallAt(walls, j));
+            setWallAt(walls, j, t);
+        }
+
+        //A maze of n cells is finished after n-1 passages, as then all cells can be reached from any cell
+        int passages=store.size()-1;
+        for(long i=0;i<count && passages>0;i++){
+            //The two neighbouring cells, and their relative direction
+            int wall=wallAt(walls, i);
+            int c1=wallCell(wall);
+            Directions d=wallDirection(wall);
+            int c2=store.neighbour(c1, d);
+
+            //If the two sets are disjoint then we join them together
+            if(sets.union(c1, c2)){
+
+                //We connect the two cells
+                store.openPassage(c1, d);
+                passages--;
+
+                listener.step();
+            }
+        }
+        //We open an exit in the last row.
+        openExit(rnd);
+
+    }
+
+    /**
+     * @return the wall at the given position of the blocks
+     */
+    private static int wallAt(int[][] walls, long i){
+        return walls[(int)(i>>>WALL_BLOCK_BITS)][(int)(i & WALL_BLOCK-1)];
+    }
+
+    private static void setWallAt(int[][] walls, long i, int wall){
+        walls[(int)(i>>>WALL_BLOCK_BITS)][(int)(i & WALL_BLOCK-1)]=wall;
+    }
+}
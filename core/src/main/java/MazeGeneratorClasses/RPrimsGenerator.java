@@ -0,0 +1,102 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.StepListener;
+import Maze.VisitMarks;
+import Maze.MazeView;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * This class implements the Randomized Prim's algorithm. Extends the base class MazeGenerator
+ */
+public class RPrimsGenerator extends MazeGenerator {
+
+    public RPrimsGenerator(MazeCell[][] maze, MazeView mf){
+        super(maze, mf);
+    }
+    public RPrimsGenerator(MazeCell[][] maze, MazeView mf, int t){
+        this(maze, mf);
+        this.sleepDrawTime=t;
+    }
+    public RPrimsGenerator(GridStore store){
+        this(store, null);
+    }
+    public RPrimsGenerator(GridStore store, MazeView mf){
+        super(store, mf);
+    }
+    public RPrimsGenerator(GridStore store, MazeView mf, int t){
+        this(store, mf);
+        this.sleepDrawTime=t;
+    }
+
+    /**
+     * Overrides the base class's method.
+     * This class generates a maze based on the Randomized Prim's algorithm.
+     * It selects walls randomly, and if it has yet to be visited, it opens up the walls between the two cells.
+     * The walls are kept in a {@link WallFrontier}, so choosing and removing a wall takes constant time.
+     */
+    @Override
+    public void generateMaze(){
+        //The start of our maze
+        int current=store.index(0,0);
+        VisitMarks visited=store.getVisitMarks();
+        visited.clear();
+        visited.visit(current);
+        openEntrance();
+
+        RandomGenerator rnd=newRandom();
+        StepListener listener=stepListener();
+        //The walls between the visited and the unvisited cells
+        WallFrontier frontier=new WallFrontier();
+        //The neighbours of a cell, in the order of the directions
+        int[] neighbours=new int[4];
+
+        //Adds the current cell's walls to the list
+        addWalls(current, visited, neighbours, frontier);
+        //The loop runs as long as there are walls in the list
+        while(!frontier.isEmpty()){
+            listener.step();
+            //We chose a wall randomly; it can be from any of the visited cells
+            int wall=frontier.removeRandom(rnd);
+            int owner=wallCell(wall);
+            Directions d=wallDirection(wall);
+            int other=store.neighbour(owner, d);
+            //The cell on the other side of the wall, if it is yet to be visited
+            int next=!visited.isVisited(other) ? other : !visited.isVisited(owner) ? owner : -1;
+            if(next>=0){
+                //we open up the wall between the two cells
+                visited.visit(next);
+                store.openPassage(owner, d);
+                //we add the new walls to the list
+                addWalls(next, visited, neighbours, frontier);
+            }
+
+        }
+        //open up a wall in the last row as an exit
+        openExit(rnd);
+    }
+
+    /**
+     * Adds the walls between a cell and its unvisited neighbours to the frontier.
+     * @param idx The index of the cell
+     * @param visited The cells that have already been visited
+     * @param neighbours An array of 4, used for collecting the neighbours
+     * @param frontier The walls to choose from
+     */
+    private void addWalls(int idx, VisitMarks visited, int[] neighbours, WallFrontier frontier){
+        int directions=unvisitedDirections(idx, visited, neighbours);
+        for(Directions d: DIRECTIONS){
+            if((directions & d.getBValue())!=0)
+                frontier.add(wallId(idx, d));
+        }
+    }
+
+    @Override
+    public RPrimsGenerator clone(){
+        return new RPrimsGenerator(store,mf,sleepDrawTime);
+    }
+
+}
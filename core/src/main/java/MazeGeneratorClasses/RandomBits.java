@@ -0,0 +1,35 @@
+package MazeGeneratorClasses;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Hands out random booleans one bit at a time, from a single call of the random generator for every 64 of them.
+ * Generators that flip a coin for every cell spend most of their time in the random generator otherwise.
+ */
+class RandomBits {
+    private final RandomGenerator rnd;
+    private long bits;
+    private int left=0;
+
+    RandomBits(RandomGenerator rnd){
+        this.rnd=rnd;
+    }
+
+    boolean nextBoolean(){
+        return nextBit()!=0;
+    }
+
+    /**
+     * @return a random bit, 0 or 1, for generators that use it in arithmetic instead of a branch
+     */
+    int nextBit(){
+        if(left==0){
+            bits=rnd.nextLong();
+            left=64;
+        }
+        int b=(int)bits & 1;
+        bits>>>=1;
+        left--;
+        return b;
+    }
+}
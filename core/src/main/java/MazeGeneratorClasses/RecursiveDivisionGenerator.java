@@ -0,0 +1,252 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.StepListener;
+import Maze.MazeView;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * The RecursiveDivisionGenerator implements the Recursive Division algorithm for maze generation.
+ * It inherits from the base class MazeGenerator.
+ */
+public class RecursiveDivisionGenerator extends MazeGenerator{
+
+    /**
+     * The size of the chambers below which a chamber is divided by a single thread, if nothing else is given.
+     */
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF=1<<14;
+
+    /**
+     * The number of cells, below which a chamber is divided by a single thread instead of new tasks.
+     */
+    private int sequentialCutoff=DEFAULT_SEQUENTIAL_CUTOFF;
+    /**
+     * The listener of the current generation, that is notified after each division.
+     */
+    private transient StepListener listener=StepListener.NONE;
+
+    public RecursiveDivisionGenerator(MazeCell[][] maze, MazeView mf){
+        super(maze, mf);
+        //This is the only maze generation algorithm implemented in this program, where we do not start off
+        //with all cells closed completely, but rather with all walls open with the exception of borders.
+        openInnerWalls();
+    }
+    public RecursiveDivisionGenerator(MazeCell[][] maze, MazeView mf, int t){
+        this(maze, mf);
+        this.sleepDrawTime=t;
+    }
+    public RecursiveDivisionGenerator(GridStore store){
+        this(store, null);
+    }
+    public RecursiveDivisionGenerator(GridStore store, MazeView mf){
+        super(store, mf);
+        openInnerWalls();
+    }
+    public RecursiveDivisionGenerator(GridStore store, MazeView mf, int t){
+        this(store, mf);
+        this.sleepDrawTime=t;
+    }
+
+    /**
+     * Sets the size of the chambers, below which a chamber is divided by a single thread.
+     * @param sequentialCutoff the number of cells, at least 1
+     */
+    public void setSequentialCutoff(int sequentialCutoff){
+        if(sequentialCutoff<1)
+            throw new IllegalArgumentException("Invalid cutoff: "+sequentialCutoff);
+        this.sequentialCutoff=sequentialCutoff;
+    }
+
+    /**
+     * @return {@link #sequentialCutoff}, the size of the chambers below which a chamber is divided by a single thread
+     */
+    public int getSequentialCutoff(){
+        return sequentialCutoff;
+    }
+
+    /**
+     * Overrides the base class's generateMaze() method. It implements the Recursive Division Algorithm.
+     */
+    @Override
+    public void generateMaze(){
+        SplittableGenerator rnd=newRandom();
+        generateRecursive(0,0, store.getWidth(), store.getHeight(), rnd.split()); //The first call to the recursive method.
+        openEntrance(); //After the maze is generated, we open our staring cell's northern wall.
+
+        //We choose a random cell from the last row. That cell will be the exit.
+        openExit(rnd);
+
+    }
+
+    /**
+     * Divides a sub-maze, and waits until it is finished.
+     * The two halves of every division are divided in parallel, by the tasks of a ForkJoinPool,
+     * until they are smaller than {@link #sequentialCutoff}, then a single thread divides the rest of the chamber.
+     * Two chambers never write the same cell, as a dividing line is closed on both of its sides inside the chamber,
+     * and the stores update the cells sharing a word atomically, so the chambers can be divided at the same time without locking.
+     * @param startX The starting x coordinate of the new sub-maze.
+     * @param startY The starting y coordinate of the new sub-maze.
+     * @param endX The last x coordinate of the new sub-maze.
+     * @param endY The last y coordinate of the new sub-maze.
+     * @param rnd The random generator of the sub-maze
+     */
+    public void generateRecursive(int startX, int startY, int endX, int endY, SplittableGenerator rnd){
+        listener=stepListener();
+        ForkJoinPool.commonPool().invoke(new Chamber(startX, startY, endX, endY, rnd));
+    }
+
+    /**
+     * A chamber of the maze, that is divided by a task of the ForkJoinPool.
+     * Every chamber has its own random generator. After the division, the first half gets a generator split from it,
+     * and the second half keeps it, exactly as in {@link #divide(int, int, int, int, SplittableGenerator)}.
+     * So the random numbers of a chamber only depend on its place in the division, and the maze is the same,
+     * no matter how many threads divided it, or where the sequential cutoff was.
+     */
+    private class Chamber extends RecursiveAction{
+        private final int startX, startY, endX, endY;
+        private final SplittableGenerator rnd;
+
+        Chamber(int startX, int startY, int endX, int endY, SplittableGenerator rnd){
+            this.startX=startX;
+            this.startY=startY;
+            this.endX=endX;
+            this.endY=endY;
+            this.rnd=rnd;
+        }
+
+        @Override
+        protected void compute(){
+            //Small chambers are not worth a task
+            if((long)(endX-startX)*(endY-startY)<=sequentialCutoff){
+                divide(startX, startY, endX, endY, rnd);
+                return;
+            }
+            int split=split(startX, startY, endX, endY, rnd);
+            if(split<0)
+                return;
+            int id=split>>1;
+            SplittableGenerator first=rnd.split();
+            //If we split the maze horizontally, the two halves are above and below the line
+            if((split & 1)==1)
+                invokeAll(new Chamber(startX, startY, endX, id+1, first), new Chamber(startX, id+1, endX, endY, rnd));
+            else
+                invokeAll(new Chamber(startX, startY, id+1, endY, first), new Chamber(id+1, startY, endX, endY, rnd));
+        }
+    }
+
+    /**
+     * This method should be called recursively.
+     * Divides a chamber and all of its sub-chambers on the current thread.
+     * @param startX The starting x coordinate of the new sub-maze.
+     * @param startY The starting y coordinate of the new sub-maze.
+     * @param endX The last x coordinate of the new sub-maze.
+     * @param endY The last y coordinate of the new sub-maze.
+     * @param rnd The random generator of the chamber
+     */
+    private void divide(int startX, int startY, int endX, int endY, SplittableGenerator rnd){
+        int split=split(startX, startY, endX, endY, rnd);
+        if(split<0)
+            return;
+        int id=split>>1;
+        //The first half gets its own stream, just like in a Chamber
+        SplittableGenerator first=rnd.split();
+        if((split & 1)==1){
+            divide(startX, startY, endX, id+1, first);
+            divide(startX, id+1, endX, endY, rnd);
+        }
+        else{
+            divide(startX, startY, id+1, endY, first);
+            divide(id+1, startY, endX, endY, rnd);
+        }
+    }
+
+    /**
+     * A single step of the algorithm.
+     * It chooses whether to draw horizontally or vertically, then chooses a random fix index of the column or row.
+     * It draws the line, then open up a passage
+     * @param startX The starting x coordinate of the sub-maze.
+     * @param startY The starting y coordinate of the sub-maze.
+     * @param endX The last x coordinate of the sub-maze.
+     * @param endY The last y coordinate of the sub-maze.
+     * @param rnd The random generator of the chamber
+     * @return the row or column of the line times two, plus one if the line is horizontal, or -1 if the sub-maze can not be split
+     */
+    private int split(int startX, int startY, int endX, int endY, RandomGenerator rnd){
+        //The stop condition.
+        //If the current sub-maze has a width or height of one, we stop this branch,
+        if(endX-startX<2 || endY-startY<2)
+            return -1;
+
+        //Used for drawing the sub-steps
+        listener.step();
+
+
+        //Random boolean that determines if we should split the maze horizontally or vertically.
+        boolean horizontal=rnd.nextBoolean();
+        //It selects an index based on the direction of the split. This is the row/column of the first sub-maze
+        int id=horizontal ? rnd.nextInt(endY-startY-1)+startY :rnd.nextInt(endX-startX-1)+startX;
+        //Selects one cell that should be left open.
+        int except=!horizontal ? rnd.nextInt(endY-startY)+startY :rnd.nextInt(endX-startX)+startX;
+
+        //Splits the maze int two parts (draws in the walls).
+        for(int i=horizontal ? startX : startY; i < (horizontal ? endX : endY);i++){
+            if(horizontal && except!=i){
+                store.closeWall(store.index(i,id), Directions.South.getBValue());
+                if(id+1<endY)
+                    store.closeWall(store.index(i,id+1), Directions.North.getBValue());
+            }
+            else if(!horizontal && except!=i){
+                store.closeWall(store.index(id,i), Directions.East.getBValue());
+                if(id+1<endX)
+                    store.closeWall(store.index(id+1,i), Directions.West.getBValue());
+            }
+
+        }
+        return id<<1 | (horizontal ? 1 : 0);
+    }
+
+    /**
+     * Opens up all the walls of the maze, with the exception of the borders.
+     */
+    private void openInnerWalls(){
+        for(int row=0;row<store.getHeight();row++){
+            for(int column=0;column<store.getWidth();column++){
+                int walls=0xf;
+                if(row==0)
+                    walls&=~Directions.North.getBValue();
+                if(row==store.getHeight()-1)
+                    walls&=~Directions.South.getBValue();
+                if(column==0)
+                    walls&=~Directions.West.getBValue();
+                if(column==store.getWidth()-1)
+                    walls&=~Directions.East.getBValue();
+                store.setWalls(store.index(column,row), walls);
+            }
+
+        }
+    }
+
+    /**
+     * As the only maze with initially no walls beside the border, we have to override the method.
+     */
+    @Override
+    public final void resetMaze(){
+        openInnerWalls();
+        if(maze!=null)
+            setAllToUnvisited();
+    }
+
+
+    @Override
+    public RecursiveDivisionGenerator clone(){
+        RecursiveDivisionGenerator clone=new RecursiveDivisionGenerator(store,mf,sleepDrawTime);
+        clone.sequentialCutoff=sequentialCutoff;
+        return clone;
+    }
+}
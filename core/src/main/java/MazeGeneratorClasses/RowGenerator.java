@@ -0,0 +1,63 @@
+package MazeGeneratorClasses;
+
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.StepListener;
+import Maze.MazeView;
+
+import java.io.IOException;
+import java.util.random.RandomGenerator;
+
+/**
+ * Abstract base class of the generators that build the maze one row at a time, and never look back at a finished row.
+ * Their rows can be streamed to any {@link RowSink}, each of them has a static generateRows method for that,
+ * which only needs memory for a few rows. When they generate the maze of a store, the rows are written into the store.
+ */
+public abstract class RowGenerator extends MazeGenerator{
+
+    public RowGenerator(MazeCell[][] maze, MazeView mf){
+        super(maze, mf);
+    }
+    public RowGenerator(MazeCell[][] maze, MazeView mf, int t){
+        super(maze, mf, t);
+    }
+    public RowGenerator(GridStore store){
+        this(store, null);
+    }
+    public RowGenerator(GridStore store, MazeView mf){
+        super(store, mf);
+    }
+    public RowGenerator(GridStore store, MazeView mf, int t){
+        super(store, mf, t);
+    }
+
+    /**
+     * Overrides the base class's method. Generates the maze into the store, a row at a time.
+     */
+    @Override
+    public void generateMaze(){
+        StepListener listener=stepListener();
+        RowSink sink=new StoreRowSink(store){
+            @Override
+            public void acceptRow(long y, int[] walls){
+                super.acceptRow(y, walls);
+                //Draws the maze after every row
+                listener.step();
+            }
+        };
+        try {
+            generateRows(sink, newRandom());
+        } catch (IOException e) {
+            //The store does not do any I/O
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Generates a maze with the dimensions of the store, and passes its rows to the sink.
+     * @param sink the receiver of the rows
+     * @param rnd the random generator
+     * @throws IOException if the sink could not write a row
+     */
+    protected abstract void generateRows(RowSink sink, RandomGenerator rnd) throws IOException;
+}
@@ -0,0 +1,26 @@
+package MazeGeneratorClasses;
+
+import java.io.IOException;
+
+/**
+ * Abstract base class of the receivers of the rows of a maze, that is generated one row at a time, like by {@link EllersGenerator}.
+ * A row is an array with the walls of each cell, using the same encoding as {@link Maze.MazeCell#getOpenWalls()}.
+ * The generator reuses the array for the next row, so a sink has to copy what it wants to keep.
+ */
+public abstract class RowSink {
+
+    /**
+     * Receives a finished row of the maze. The rows arrive in order, starting from 0.
+     * @param y the index of the row
+     * @param walls the open walls of the cells of the row, as 4 bit numbers
+     * @throws IOException if the row could not be written
+     */
+    public abstract void acceptRow(long y, int[] walls) throws IOException;
+
+    /**
+     * Called after the last row. Does nothing by default.
+     * @throws IOException if the rest of the maze could not be written
+     */
+    public void finish() throws IOException {
+    }
+}
@@ -0,0 +1,94 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.MazeView;
+
+import java.io.IOException;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class implements the Sidewinder algorithm for maze generation. Extends the base class RowGenerator.
+ * Every row is cut into runs of random length. The cells of a run are connected to each other,
+ * and a random cell of the run opens up its southern wall. The last row is a single corridor, that connects all the runs above it.
+ * A row only depends on itself, so it is nearly as fast as the Binary Tree algorithm, but it has only one long corridor.
+ */
+public class SidewinderGenerator extends RowGenerator{
+
+    public SidewinderGenerator(MazeCell[][] maze, MazeView mf){
+        super(maze, mf);
+    }
+    public SidewinderGenerator(MazeCell[][] maze, MazeView mf, int t){
+        super(maze, mf, t);
+    }
+    public SidewinderGenerator(GridStore store){
+        this(store, null);
+    }
+    public SidewinderGenerator(GridStore store, MazeView mf){
+        super(store, mf);
+    }
+    public SidewinderGenerator(GridStore store, MazeView mf, int t){
+        super(store, mf, t);
+    }
+
+    @Override
+    protected void generateRows(RowSink sink, RandomGenerator rnd) throws IOException {
+        generateRows(store.getWidth(), store.getHeight(), sink, rnd);
+    }
+
+    /**
+     * Generates a maze with the Sidewinder algorithm, and passes its rows to the sink.
+     * Only the current row is kept, and a row does not allocate anything.
+     * The entrance is the northern wall of the top left cell, the exit is the southern wall of a random cell in the last row.
+     * @param width the width of the maze
+     * @param height the height of the maze
+     * @param sink the receiver of the rows
+     * @param rnd the random generator
+     * @throws IOException if the sink could not write a row
+     */
+    public static void generateRows(int width, long height, RowSink sink, RandomGenerator rnd) throws IOException {
+        if(width<1 || height<1)
+            throw new IllegalArgumentException("Invalid maze size: "+width+"x"+height);
+        //The walls of the cells of the current row
+        int[] walls=new int[width];
+        RandomBits coin=new RandomBits(rnd);
+        //The entrance
+        walls[0]=Directions.North.getBValue();
+
+        for(long y=0;y<height-1;y++){
+            //The first cell of the current run
+            int run=0;
+            for(int x=0;x<width;x++){
+                //The run ends at the last column, or when the coin says so
+                if(x==width-1 || coin.nextBoolean()){
+                    walls[run+rnd.nextInt(x-run+1)]|=Directions.South.getBValue();
+                    run=x+1;
+                }
+                else{
+                    walls[x]|=Directions.East.getBValue();
+                    walls[x+1]|=Directions.West.getBValue();
+                }
+            }
+            sink.acceptRow(y, walls);
+            //The southern walls become the northern walls of the next row
+            for(int x=0;x<width;x++)
+                walls[x]=(walls[x]>>>2) & Directions.North.getBValue();
+        }
+
+        //The last row is a single corridor
+        for(int x=0;x<width-1;x++){
+            walls[x]|=Directions.East.getBValue();
+            walls[x+1]|=Directions.West.getBValue();
+        }
+        //The exit
+        walls[rnd.nextInt(width)]|=Directions.South.getBValue();
+        sink.acceptRow(height-1, walls);
+        sink.finish();
+    }
+
+    @Override
+    public SidewinderGenerator clone(){
+        return new SidewinderGenerator(store,mf,sleepDrawTime);
+    }
+}
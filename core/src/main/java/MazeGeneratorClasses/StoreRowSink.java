@@ -0,0 +1,24 @@
+package MazeGeneratorClasses;
+
+import Maze.GridStore;
+
+/**
+ * Writes the rows of a maze into a {@link GridStore}, like the store of an in-memory {@link Maze.Maze}.
+ */
+public class StoreRowSink extends RowSink {
+
+    /**
+     * The store that receives the rows
+     */
+    private final GridStore store;
+
+    public StoreRowSink(GridStore store){
+        this.store=store;
+    }
+
+    @Override
+    public void acceptRow(long y, int[] walls){
+        for(int x=0;x<walls.length;x++)
+            store.setWalls(store.index(x,(int)y), walls[x]);
+    }
+}
@@ -0,0 +1,50 @@
+package MazeGeneratorClasses;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the rows of a maze into a stream, nibble-packed: two cells in every byte, the first one in the lower 4 bits.
+ * The rows follow each other without any padding. This is the same format as the file of a row-major {@link Maze.OffHeapGridStore},
+ * so a maze written into a file can be opened again by one with the same dimensions.
+ * Nothing is kept besides the half-filled byte, so the maze can be much bigger than the memory.
+ */
+public class StreamRowSink extends RowSink {
+
+    /**
+     * The stream that receives the rows. It should be buffered.
+     */
+    private final OutputStream out;
+    /**
+     * The lower nibble of the next byte, or -1 if the next cell starts a new byte.
+     */
+    private int pending=-1;
+
+    public StreamRowSink(OutputStream out){
+        this.out=out;
+    }
+
+    @Override
+    public void acceptRow(long y, int[] walls) throws IOException {
+        for(int w : walls){
+            if(pending<0)
+                pending=w & 0xf;
+            else{
+                out.write(pending | (w & 0xf)<<4);
+                pending=-1;
+            }
+        }
+    }
+
+    /**
+     * Writes out the last cell, if it only fills half a byte, and flushes the stream.
+     */
+    @Override
+    public void finish() throws IOException {
+        if(pending>=0){
+            out.write(pending);
+            pending=-1;
+        }
+        out.flush();
+    }
+}
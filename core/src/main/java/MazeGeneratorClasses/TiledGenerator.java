@@ -0,0 +1,167 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.StepListener;
+import Maze.TileGridStore;
+import Maze.MazeView;
+
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * Generates a maze in parallel, by cutting it into tiles and generating every tile with its own generator, on its own core.
+ * Every tile is a perfect maze on its own. The tiles are then stitched together along a random spanning tree of the tiles:
+ * two neighbouring tiles get exactly one passage between them if they are joined in the tree, and none otherwise.
+ * So there is still exactly one path between any two cells of the maze.
+ * Any type of generator can be used for the tiles, but the tile borders show in the mazes of the biased algorithms.
+ */
+public class TiledGenerator extends MazeGenerator{
+
+    /**
+     * The side of a tile, if nothing else is given.
+     */
+    public static final int DEFAULT_TILE_SIZE=512;
+
+    /**
+     * The type of the generators of the tiles
+     */
+    private final MazeType tileType;
+    /**
+     * The side of a tile in cells. The tiles on the right and bottom edge may be smaller.
+     */
+    private final int tileSize;
+
+    public TiledGenerator(GridStore store, MazeType tileType, int tileSize){
+        this(store, null, tileType, tileSize);
+    }
+    public TiledGenerator(GridStore store, MazeView mf, MazeType tileType){
+        this(store, mf, tileType, DEFAULT_TILE_SIZE);
+    }
+    public TiledGenerator(GridStore store, MazeView mf, MazeType tileType, int tileSize){
+        super(store, mf);
+        if(tileSize<1)
+            throw new IllegalArgumentException("Invalid tile size: "+tileSize);
+        this.tileType=tileType;
+        this.tileSize=tileSize;
+    }
+    public TiledGenerator(GridStore store, MazeView mf, int t, MazeType tileType, int tileSize){
+        this(store, mf, tileType, tileSize);
+        this.sleepDrawTime=t;
+    }
+    public TiledGenerator(MazeCell[][] maze, MazeView mf, MazeType tileType, int tileSize){
+        this(GridStore.of(maze), mf, tileType, tileSize);
+    }
+
+    /**
+     * @return {@link #tileType}, the type of the generators of the tiles
+     */
+    public MazeType getTileType(){
+        return tileType;
+    }
+
+    /**
+     * @return {@link #tileSize}, the side of a tile in cells
+     */
+    public int getTileSize(){
+        return tileSize;
+    }
+
+    /**
+     * Overrides the base class's method. The tiles are generated in parallel, then they are stitched together.
+     */
+    @Override
+    public void generateMaze(){
+        int tilesX=(store.getWidth()+tileSize-1)/tileSize;
+        int tilesY=(store.getHeight()+tileSize-1)/tileSize;
+
+        //Every tile gets its own seed, drawn in the order of the tiles, so the tiles do not depend on which thread generates them
+        RandomGenerator rnd=newRandom();
+        long[] seeds=rnd.longs(tilesX*tilesY).toArray();
+        StepListener listener=stepListener();
+        IntStream.range(0, tilesX*tilesY).parallel().forEach(t -> generateTile(t%tilesX, t/tilesX, seeds[t], listener));
+
+        stitch(tilesX, tilesY, rnd);
+        openEntrance();
+        openExit(rnd);
+    }
+
+    /**
+     * Generates the maze of a single tile, with a new generator of the tile type.
+     * @param tx the column of the tile
+     * @param ty the row of the tile
+     * @param seed the seed of the tile generator
+     * @param listener the listener that is notified after the tile is finished
+     */
+    private void generateTile(int tx, int ty, long seed, StepListener listener){
+        int x0=tx*tileSize, y0=ty*tileSize;
+        int width=Math.min(tileSize, store.getWidth()-x0);
+        int height=Math.min(tileSize, store.getHeight()-y0);
+        TileGridStore tile=new TileGridStore(store, x0, y0, width, height);
+        tileType.createGenerator(tile, null, 0).generateMaze(seed);
+
+        //The generator opened an entrance and an exit on the border of the tile, these are closed again
+        for(int x=0;x<width;x++){
+            tile.closeWall(tile.index(x,0), Directions.North.getBValue());
+            tile.closeWall(tile.index(x,height-1), Directions.South.getBValue());
+        }
+        for(int y=0;y<height;y++){
+            tile.closeWall(tile.index(0,y), Directions.West.getBValue());
+            tile.closeWall(tile.index(width-1,y), Directions.East.getBValue());
+        }
+
+        listener.step();
+    }
+
+    /**
+     * Joins the tiles along a random spanning tree, found by Kruskal's algorithm on the grid of the tiles.
+     * Every edge of the tree becomes a passage at a random position of the border between the two tiles.
+     * @param tilesX the number of tiles in a row
+     * @param tilesY the number of tiles in a column
+     * @param rnd the random generator
+     */
+    private void stitch(int tilesX, int tilesY, RandomGenerator rnd){
+        //The borders between the tiles, numbered just like the walls of the cells (see wallId): two per tile
+        int[] borders=new int[2*tilesX*tilesY];
+        int count=0;
+        for(int t=0;t<tilesX*tilesY;t++){
+            if(t%tilesX<tilesX-1)
+                borders[count++]=t<<1;
+            if(t/tilesX<tilesY-1)
+                borders[count++]=t<<1 | 1;
+        }
+        for(int i=count-1;i>0;i--){
+            int j=rnd.nextInt(i+1);
+            int b=borders[i];
+            borders[i]=borders[j];
+            borders[j]=b;
+        }
+
+        DisjointSets tiles=new DisjointSets(tilesX*tilesY);
+        for(int i=0;i<count;i++){
+            int t=wallCell(borders[i]);
+            Directions d=wallDirection(borders[i]);
+            int tx=t%tilesX, ty=t/tilesX;
+            int other=d==Directions.East ? t+1 : t+tilesX;
+            if(!tiles.union(t, other))
+                continue;
+            //The passage is opened from the last column or row of the tile, at a random position of the border
+            int x, y;
+            if(d==Directions.East){
+                x=(tx+1)*tileSize-1;
+                y=ty*tileSize+rnd.nextInt(Math.min(tileSize, store.getHeight()-ty*tileSize));
+            }
+            else{
+                x=tx*tileSize+rnd.nextInt(Math.min(tileSize, store.getWidth()-tx*tileSize));
+                y=(ty+1)*tileSize-1;
+            }
+            store.openPassage(store.index(x,y), d);
+        }
+    }
+
+    @Override
+    public TiledGenerator clone(){
+        return new TiledGenerator(store, mf, sleepDrawTime, tileType, tileSize);
+    }
+}
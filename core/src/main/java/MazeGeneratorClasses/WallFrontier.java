@@ -0,0 +1,72 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
+
+/**
+ * A set of wall ids (see {@link MazeGenerator#wallId}), from which a random wall can be taken in constant time.
+ * The walls are kept in an int array in no particular order. A random wall is removed by moving the last wall into its place,
+ * and two bitsets tell whether a wall is in the set, so adding a wall twice is also caught in constant time.
+ */
+class WallFrontier {
+    private int[] walls=new int[16];
+    private int size=0;
+    /**
+     * The eastern and southern walls that are currently in the set, indexed by the cell that owns them.
+     * The id itself can not be the index, as it is negative for the cells from 2^30 on.
+     */
+    private final BitSet east=new BitSet(), south=new BitSet();
+
+    boolean isEmpty(){
+        return size==0;
+    }
+
+    int size(){
+        return size;
+    }
+
+    boolean contains(int wall){
+        return owners(wall).get(MazeGenerator.wallCell(wall));
+    }
+
+    /**
+     * @param wall the id of a wall
+     * @return the set of the walls that have the same direction as the given one
+     */
+    private BitSet owners(int wall){
+        return MazeGenerator.wallDirection(wall)==Directions.East ? east : south;
+    }
+
+    /**
+     * Adds a wall, if it is not in the set yet.
+     * @param wall the id of the wall
+     */
+    void add(int wall){
+        BitSet owners=owners(wall);
+        int cell=MazeGenerator.wallCell(wall);
+        if(owners.get(cell))
+            return;
+        if(size==walls.length){
+            int[] bigger=new int[size*2];
+            System.arraycopy(walls, 0, bigger, 0, size);
+            walls=bigger;
+        }
+        walls[size++]=wall;
+        owners.set(cell);
+    }
+
+    /**
+     * Removes a random wall from the set. The last wall takes its place.
+     * @param rnd the random generator used for choosing the wall
+     * @return the id of the removed wall
+     */
+    int removeRandom(RandomGenerator rnd){
+        int i=size>1 ? rnd.nextInt(size) : 0;
+        int wall=walls[i];
+        walls[i]=walls[--size];
+        owners(wall).clear(MazeGenerator.wallCell(wall));
+        return wall;
+    }
+}
@@ -0,0 +1,114 @@
+package MazeGeneratorClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.VisitMarks;
+import Maze.MazeView;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * This class implements Wilson's algorithm for maze generation.
+ * Extends the base class MazeGenerator.
+ */
+public class WilsonsGenerator extends MazeGenerator{
+
+    public WilsonsGenerator(MazeCell[][] maze, MazeView mf){
+        super(maze, mf);
+    }
+    public WilsonsGenerator(MazeCell[][] maze, MazeView mf, int t){
+        this(maze,mf);
+        this.sleepDrawTime=t;
+    }
+    public WilsonsGenerator(GridStore store){
+        this(store, null);
+    }
+    public WilsonsGenerator(GridStore store, MazeView mf){
+        super(store, mf);
+    }
+    public WilsonsGenerator(GridStore store, MazeView mf, int t){
+        this(store,mf);
+        this.sleepDrawTime=t;
+    }
+
+    /**
+     * Overrides the base class's method.
+     * Wilson's algorithm works by selecting a cell that is not in the maze yet, and performing a random walk from it,
+     * until it reaches a cell that is already in the maze. The walk, without its loops, is then added to the maze.
+     * The loops are erased by remembering only the last direction in which the walk left each cell:
+     * following these directions from the start of the walk gives the loop-erased path, so the path itself is never stored.
+     * Any order of choosing the starting cells gives a uniform spanning tree, so they are simply taken by a cursor
+     * that only moves forward. This way the cost is proportional to the length of the random walks.
+     */
+    @Override
+    public void generateMaze(){
+        RandomGenerator rnd=newRandom();
+        VisitMarks visited=store.getVisitMarks();
+        visited.clear();
+
+        //Chose a random cell, this is the first cell of the maze
+        int current;
+        do{
+            current=rnd.nextInt(store.capacity());
+        }while(!store.isCell(current));
+        visited.visit(current);
+
+        addLoopErasedWalks(visited, rnd);
+
+        //Opens up the exit and entrance.
+        openEntrance();
+        openExit(rnd);
+
+
+    }
+
+    /**
+     * Adds every cell that is not in the maze yet, with loop-erased random walks.
+     * The maze must already have at least one cell, these are the visited cells.
+     * @param visited The cells that are already in the maze
+     * @param rnd The random generator used for the walks
+     */
+    protected void addLoopErasedWalks(VisitMarks visited, RandomGenerator rnd){
+        //The direction in which the walk last left each cell
+        byte[] exits=new byte[store.capacity()];
+        //The neighbours of the current cell, in the order of the directions
+        int[] neighbours=new int[4];
+
+        //The cells before the cursor are all in the maze
+        for(int start=0;start<store.capacity();start++){
+            if(!store.isCell(start) || visited.isVisited(start))
+                continue;
+
+            //Random walk, until it hits the maze. Walking into a loop simply overwrites the exits of the cells in it
+            int current=start;
+            while(!visited.isVisited(current)){
+                store.neighbours(current, neighbours);
+                int valid=0;
+                for(int i=0;i<4;i++){
+                    if(neighbours[i]>=0)
+                        valid|=1<<i;
+                }
+                int count=Integer.bitCount(valid);
+                Directions d=nthDirection(valid, rnd.nextInt(count));
+                exits[current]=(byte)d.ordinal();
+                current=neighbours[d.ordinal()];
+            }
+
+            //Adds the loop-erased walk to the maze
+            current=start;
+            while(!visited.isVisited(current)){
+                visited.visit(current);
+                Directions d=DIRECTIONS[exits[current]];
+                store.openPassage(current, d);
+                current=store.neighbour(current, d);
+            }
+
+        }
+    }
+
+    @Override
+    public WilsonsGenerator clone(){
+        return new WilsonsGenerator(store,mf,sleepDrawTime);
+    }
+}
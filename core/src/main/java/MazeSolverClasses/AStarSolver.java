@@ -0,0 +1,302 @@
+package MazeSolverClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.MazeView;
+
+import java.util.*;
+
+/**
+ *A class that inheriths from MazeSolver base class and implement the A* algorithm for path finding.
+ * It works directly on the store of the maze.
+ */
+public class AStarSolver extends MazeSolver{
+
+    /**
+     * Nested class that extends from the MazeCell class.
+     * It is used, so we can store the current total, heuristic and source distance of a cell.
+     */
+    public class DistMazeCell extends MazeCell implements Comparable<DistMazeCell>{
+
+        /**
+         * The distance from the source. Initialized as "infinity" everywhere except the source.
+         */
+        int distFromSource=Integer.MAX_VALUE;
+        /**
+         * The total remaining distance based on the heuristic function used.
+         */
+        int distHeuristic;
+
+
+        public DistMazeCell(Heuristic h, MazeCell cell, MazeCell destination){
+            super(cell.getX(),cell.getY());
+            distHeuristic = Heuristic.getHeuristicDistance(h,this.getX(),this.getY(),destination.getX(),destination.getY());
+            this.openWall(cell.getOpenWalls());
+        }
+        public DistMazeCell(int x, int y, int walls, int distHeuristic, int distFromSource){
+            super(x,y);
+            this.openWall(walls);
+            this.distHeuristic=distHeuristic;
+            this.distFromSource=distFromSource;
+        }
+
+        /**
+         * It returns the total distance. This is the value on which we base what our next cell is going to be.
+         * @return the sum of the two distances or infinity if the sum would overflow.
+         */
+        public int getTotalDistance(){
+            return (distFromSource+distHeuristic)<0 ? distFromSource : distFromSource+distHeuristic;
+        }
+
+        /**
+         * Return the distance from the source.
+         * @return {@link #distFromSource}
+         */
+        public int getDistFromSource() {
+            return distFromSource;
+        }
+
+        /**
+         * Defined so the natural ordering is based on the total distance of two cells.
+         * One cell is greater if the total distance of it is greater as well.
+         * @param o
+         * @return
+         */
+        @Override
+        public int compareTo(AStarSolver.DistMazeCell o) {
+            return Integer.compare(this.getTotalDistance(),o.getTotalDistance());
+        }
+    }
+
+    /**
+     * Nested enumerator used for keeping track of the heuristic functions.
+     */
+    public enum Heuristic {
+        NONE, MANHATTAN_DISTANCE, EUCLIDEAN;
+
+        /**
+         * Calculates the heuristic distance of two cells based on the function.
+         * @param h The type of heuristic function we should use for the calculation.
+         * @param x0 The x coordinate of the source
+         * @param y0 The y coordinate of the source
+         * @param x1 The x coordinate of the target
+         * @param y1 The y coordinate of the target
+         * @return an integer that guesses the remaining distance between two nodes.
+         */
+        public static int getHeuristicDistance(Heuristic h, int x0, int y0, int x1, int y1) {
+            switch (h) {
+                case MANHATTAN_DISTANCE:
+                    return Math.abs(x0 - x1) + Math.abs(y0 - y1);
+                case EUCLIDEAN:
+                    return (int) Math.round(Math.sqrt((double) (x0 - x1) * (x0 - x1) + (double) (y0 - y1) * (y0 - y1))); //Should be used in a grid where the player can move in 8 directions
+                default:
+                    return 0;
+
+            }
+        }
+    }
+
+    /**
+     * The current heuristic used for this solver.
+     */
+    Heuristic hType=Heuristic.NONE; //If the Heuristic function is NONE, the A* algorithm will be the same as the Dijkstra
+
+    public AStarSolver(MazeView mf, int delay, Heuristic h){
+        super(mf, delay);
+        this.hType=h;
+    }
+
+    /**
+     * The state of the last solve, the parents of the cells are stored in it.
+     */
+    private SolveContext context;
+    /**
+     * The distance of each cell from the source in the last solve. Integer.MAX_VALUE if we have not reached it yet.
+     * Unlike the other solvers, A* needs the exact distances, they do not fit in the context.
+     */
+    private int[] distances;
+
+    /**
+     * Builds a 2D array with the distances of the last solve, so the distances can be examined through cells.
+     * The array is created on every call, the solver itself only stores the distances in {@link #distances}.
+     * @return a 2D array of DistMazeCell objects, or null if no maze has been solved yet
+     */
+    public DistMazeCell[][] getCells(){
+        SolveContext context=this.context;
+        int[] distances=this.distances;
+        if(context==null || distances==null)
+            return null;
+        GridStore store=context.getStore();
+        int destination=store.findExit();
+        DistMazeCell[][] cells=new DistMazeCell[store.getHeight()][store.getWidth()];
+        for(int row=0;row<store.getHeight();row++){
+            for(int column=0;column<store.getWidth();column++){
+                int idx=store.index(column,row);
+                cells[row][column]=new DistMazeCell(column,row,store.getWalls(idx),heuristic(store,idx,destination),distances[idx]);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Returns the type of heuristic function currently in use.
+     * @return {@link #hType}
+     */
+    public Heuristic getHType(){
+        return hType;
+    }
+
+    /**
+     * @param store the store of the maze
+     * @param idx the index of a cell
+     * @param destination the index of the destination
+     * @return the heuristic distance between the cell and the destination
+     */
+    private int heuristic(GridStore store, int idx, int destination){
+        return Heuristic.getHeuristicDistance(hType,store.getX(idx),store.getY(idx),store.getX(destination),store.getY(destination));
+    }
+
+    @Override
+    public Queue<MazeCell> solveMaze(MazeCell[][] maze) {
+        GridStore store=GridStore.of(maze);
+        return toCellPath(maze, store, solvePath(store));
+    }
+
+    /**
+     * Solves the maze based on the A* algorithm
+     * @param store the store of the maze
+     * @return the indices of the cells from the source to the destination
+     */
+    @Override
+    public int[] solvePath(GridStore store) {
+        listener=stepListener();
+
+        //Every solve has its own state, so the same maze can be solved by many threads at once
+        SolveContext context=new SolveContext(store);
+        int destination=store.findExit();
+        //The distance of every cell is "infinity" in the beginning
+        int[] distances=new int[store.capacity()];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        this.context=context;
+        this.distances=distances;
+        //Stores the cells that we reached, but have yet to be checked
+        OpenSet openSet=new OpenSet();
+        int start=store.findEntrance();
+        int current;
+        //The distance of the source from itself must be zero.
+        distances[start]=0;
+
+        //We add the source to our priority queue.
+        openSet.add(heuristic(store,start,destination), start);
+        while(!openSet.isEmpty()){
+            //The priority queue always returns the cell with the smallest Total Distance value,
+            // which is a guess based on the distance so far and the heuristic function
+            long entry=openSet.poll();
+            current=(int)entry;
+            //If the cell got into the queue again with a smaller distance, it has already been checked, this entry is out of date.
+            if(!context.visit(current))
+                continue;
+            //Break condition if we reached the exit.
+            //This is the guaranteed shortest path, as the priority queue always returns the cell with the smallest distance in it
+            //and the distance between adjacent cells are equal.
+            if(current==destination)
+                break;
+
+            //We check for all neighboring cells if the distance through the current cell
+            //would be smaller than the distance it currently has.
+            //In that case we assign the current cell as the parent of it and set the new distance.
+            int valid=getValidDirections(store, current);
+            for(Directions d: DIRECTIONS){
+                if((valid & d.getBValue())==0)
+                    continue;
+                int n=store.neighbour(current, d);
+                if(distances[current]+1< distances[n]){
+                    distances[n]= distances[current]+1;
+                    context.setParent(n, d.getOpposite());
+                    openSet.add(distances[n]+heuristic(store,n,destination), n);
+                }
+            }
+            listener.step();
+
+        }
+        listener.step();
+        //We build the path backwards from the destination, following the parents
+        int[] path=context.buildPath(start, destination);
+        listener.finished();
+        return path;
+    }
+
+    /**
+     * A binary min-heap of cells, used as the open set of the algorithm.
+     * Each entry is a long, the upper half is the total distance of the cell, the lower half is its index,
+     * so the entries are ordered by the total distance and no objects are created for them.
+     */
+    private static class OpenSet{
+        private long[] heap=new long[64];
+        private int size=0;
+
+        boolean isEmpty(){
+            return size==0;
+        }
+
+        void add(int totalDistance, int idx){
+            if(size==heap.length)
+                heap=Arrays.copyOf(heap, size*2);
+            long entry=((long)totalDistance<<32) | (idx & 0xffffffffL);
+            int i=size++;
+            //Moves the new entry up, until its parent is smaller
+            while(i>0 && heap[(i-1)/2]>entry){
+                heap[i]=heap[(i-1)/2];
+                i=(i-1)/2;
+            }
+            heap[i]=entry;
+        }
+
+        long poll(){
+            long top=heap[0];
+            long last=heap[--size];
+            int i=0;
+            //Moves the last entry down from the top, until both of its children are bigger
+            while(2*i+1<size){
+                int child=2*i+1;
+                if(child+1<size && heap[child+1]<heap[child])
+                    child++;
+                if(heap[child]>=last)
+                    break;
+                heap[i]=heap[child];
+                i=child;
+            }
+            heap[i]=last;
+            return top;
+        }
+    }
+
+    @Override
+    public AStarSolver clone() throws CloneNotSupportedException {
+        return new AStarSolver(mf, solverDelay, hType);
+    }
+
+    /**
+     * @return {@link #context}, the state of the current solution, or null if the solver is not running
+     */
+    public SolveContext getContext(){
+        return context;
+    }
+
+    /**
+     * @return {@link #distances}, the distances of the cells from the entrance, Integer.MAX_VALUE for the ones that were not reached
+     */
+    public int[] getDistances(){
+        return distances;
+    }
+
+    /**
+     * Sets the context and the distances to null. When solveMaze is called, they will be reinitialized.
+     */
+    @Override
+    public void reset() {
+        context=null;
+        distances=null;
+    }
+}
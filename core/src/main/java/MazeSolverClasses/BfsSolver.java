@@ -0,0 +1,114 @@
+package MazeSolverClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.MazeView;
+
+import java.util.*;
+
+/**
+ * Class that implements the Breadth-First Search. Inherits from MazeSolver.
+ * It works directly on the store of the maze.
+ */
+public class BfsSolver extends MazeSolver{
+
+    /**
+     * The state of the last solve, used for drawing
+     */
+    private SolveContext context;
+    /**
+     * The queue of the last solve, made up of cell indices. Only used for drawing.
+     */
+    private IntQueue queue;
+
+    public BfsSolver(MazeView mf, int t){
+        super(mf,t);
+    }
+
+    @Override
+    public Queue<MazeCell> solveMaze(MazeCell[][] maze) {
+        GridStore store=GridStore.of(maze);
+        return toCellPath(maze, store, solvePath(store));
+    }
+
+    /**
+     * Implements the BFS algorithm.
+     * First it searches through all the cells which have a depth level of one from the source.
+     * Then one step deeper, then deeper. Continuing until the destination is found
+     * @param store the store of the maze
+     * @return the indices of the cells from the source to the destination
+     */
+    @Override
+    public int[] solvePath(GridStore store) {
+        listener=stepListener();
+
+        //Every solve has its own state, so the same maze can be solved by many threads at once
+        SolveContext context=new SolveContext(store);
+        IntQueue queue=new IntQueue();
+        this.context=context;
+        this.queue=queue;
+        int source=store.findEntrance();
+        int destination=store.findExit();
+        context.visit(source);
+        queue.add(source);
+        int current;
+        while(!queue.isEmpty()){
+            listener.step();
+            //Check the cell that was entered first
+            current=queue.poll();
+            //If it is the destination break.
+            if(current==destination)
+                break;
+            //Add all the neighbours to the queue, if they are yet to be visited. Otherwise, we have already been there.
+            int valid=getValidDirections(store, current);
+            for(Directions d : DIRECTIONS) {
+                if((valid & d.getBValue())!=0){
+                    int cell=store.neighbour(current, d);
+                    if(context.visit(cell)){
+                        context.setParent(cell, d.getOpposite()); //Stores the direction from which we came from.
+                        queue.add(cell);
+                    }
+                }
+            }
+        }
+
+        //Build the path be iterating through the cells from the destination until the source is reached.
+        int[] path=context.buildPath(source, destination);
+
+        listener.finished();
+
+        return path;
+    }
+
+    @Override
+    public BfsSolver clone() throws CloneNotSupportedException {
+        return new BfsSolver(mf, solverDelay);
+    }
+
+    /**
+     * @return {@link #context}, the state of the current solution, or null if the solver is not running
+     */
+    public SolveContext getContext(){
+        return context;
+    }
+
+    /**
+     * Tells whether the cell is in the queue of the search. Used by the UI to draw the sub-steps of the solution.
+     * @param idx the index of the cell
+     * @return true if the cell is in the queue of the search
+     */
+    public boolean isQueued(int idx){
+        IntQueue queue=this.queue;
+        return queue!=null && queue.contains(idx);
+    }
+
+    /**
+     * Resets the maze if it needs to be regenerated or the solution redrawn.
+     */
+    @Override
+    public void reset() {
+        context=null;
+        queue=null;
+    }
+}
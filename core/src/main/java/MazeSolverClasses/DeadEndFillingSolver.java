@@ -0,0 +1,173 @@
+package MazeSolverClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.MazeView;
+
+import java.util.*;
+
+/**
+ * Class that implements the dead-end filling algorithm. Extends from MazeSolver
+ * It works by iteratively finding all the dead-ends and marking them as unreachable.
+ * The filled cells are the visited cells of a {@link SolveContext}, so the maze itself is never modified.
+ * The maze does not have to be perfect: the loops are not filled, and the path is found by a search through the cells that are left.
+ */
+public class DeadEndFillingSolver extends MazeSolver{
+
+    public DeadEndFillingSolver(MazeView mf, int delay){
+        super(mf,delay);
+    }
+
+    /**
+     * The indices of the cells that are currently viewed as dead-ends
+     */
+    private IntQueue deadEnds;
+
+    /**
+     * The state of the last solve, used for drawing
+     */
+    private SolveContext context;
+
+    @Override
+    public Queue<MazeCell> solveMaze(MazeCell[][] maze) {
+        GridStore store=GridStore.of(maze);
+        return toCellPath(maze, store, solvePath(store));
+    }
+
+    /**
+     * Implement the dead-end filling algorithm.
+     * It works by labeling all dead-ends at each pass.
+     * A cell is a dead-end, if it only has one valid, non-visited neighbour that is accessible from it.
+     * By doing this many times, all dead-ends are marker and only the solution remains.
+     * Filling a cell can only make its own neighbours dead-ends, so after the first pass only those are checked.
+     * @param store the store of the maze
+     * @return the indices of the cells from the source to the destination
+     */
+    @Override
+    public int[] solvePath(GridStore store) {
+        listener=stepListener();
+
+        //Every solve has its own state, so the same maze can be solved by many threads at once
+        SolveContext context=new SolveContext(store);
+        IntQueue deadEnds=new IntQueue();
+        this.context=context;
+        this.deadEnds=deadEnds;
+        //Start and destination cells
+        int start=store.findEntrance();
+        int destination=store.findExit();
+
+        //Gets the initial dead-ends. The start and the destination are never filled, even if they are dead-ends,
+        //and the walls that lead out of the maze do not count
+        for(int idx=0;idx<store.capacity();idx++){
+            if(store.isCell(idx) && idx!=start && idx!=destination && Integer.bitCount(getValidDirections(store, idx))==1){
+                deadEnds.add(idx);
+                context.visit(idx);
+            }
+        }
+
+        //If there are no more dead-ends, the algorithm stops.
+        while(!deadEnds.isEmpty()){
+            listener.step();
+            //We remove the previous dead-ends,
+            //and get the neighbours of them which only have one non-visited neighbour left
+            IntQueue next=new IntQueue();
+            while(!deadEnds.isEmpty()){
+                int cell=deadEnds.poll();
+                int valid=getValidDirections(store, cell);
+                for(Directions d : DIRECTIONS){
+                    if((valid & d.getBValue())==0)
+                        continue;
+                    int n=store.neighbour(cell, d);
+                    if(n!=start && n!=destination && !context.isVisited(n) && unvisitedNeighbours(context, n)==1)
+                        next.add(n);
+                }
+            }
+            //All of these nodes are set to visited, if they have yet to be.
+            IntQueue filled=new IntQueue();
+            while(!next.isEmpty()){
+                int cell=next.poll();
+                if(context.visit(cell))
+                    filled.add(cell);
+            }
+            deadEnds=filled;
+            this.deadEnds=filled;
+        }
+
+        listener.step();
+
+        //Builds the solution with a breadth-first search through the cells that have not been filled.
+        //In a perfect maze only the path is left, but the loops of a maze that is not perfect are never filled.
+        BitSet reached=new BitSet(store.capacity());
+        IntQueue queue=new IntQueue();
+        reached.set(start);
+        queue.add(start);
+        while(!queue.isEmpty()){
+            int current=queue.poll();
+            if(current==destination)
+                break;
+            int valid=getValidDirections(store, current);
+            for(Directions d : DIRECTIONS){
+                if((valid & d.getBValue())==0)
+                    continue;
+                int n=store.neighbour(current, d);
+                if(!context.isVisited(n) && !reached.get(n)){
+                    reached.set(n);
+                    context.setParent(n, d.getOpposite());
+                    queue.add(n);
+                }
+            }
+        }
+        int[] path=context.buildPath(start, destination);
+        listener.finished();
+
+        return path;
+
+    }
+
+    /**
+     * @param context the state of the search
+     * @param idx the index of a cell
+     * @return the number of neighbours accessible from the cell, that have not been filled yet
+     */
+    private static int unvisitedNeighbours(SolveContext context, int idx){
+        GridStore store=context.getStore();
+        int valid=getValidDirections(store, idx);
+        int count=0;
+        for(Directions d : DIRECTIONS){
+            if((valid & d.getBValue())!=0 && !context.isVisited(store.neighbour(idx, d)))
+                count++;
+        }
+        return count;
+    }
+
+    @Override
+    public DeadEndFillingSolver clone(){
+        return new DeadEndFillingSolver(mf,solverDelay);
+    }
+
+    /**
+     * @return {@link #context}, the state of the current solution, or null if the solver is not running
+     */
+    public SolveContext getContext(){
+        return context;
+    }
+
+    /**
+     * Tells whether the cell is a dead end that is being filled. Used by the UI to draw the sub-steps of the solution.
+     * @param idx the index of the cell
+     * @return true if the cell is a dead end that is being filled
+     */
+    public boolean isDeadEnd(int idx){
+        IntQueue deadEnds=this.deadEnds;
+        return deadEnds!=null && deadEnds.contains(idx);
+    }
+
+    @Override
+    public void reset() {
+        deadEnds=null;
+        context=null;
+    }
+
+
+}
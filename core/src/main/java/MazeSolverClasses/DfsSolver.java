@@ -0,0 +1,131 @@
+package MazeSolverClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.MazeView;
+import Maze.StepListener;
+
+import java.util.*;
+import java.util.List;
+
+/**
+ * Implements the depth-first search algorithm. Inherits from MazeSolver
+ * The state of the search is kept in a {@link SolveContext}, so the maze itself is never modified.
+ */
+public class DfsSolver extends MazeSolver {
+
+    /**
+     * The state of the last solve, used for drawing
+     */
+    private volatile SolveContext context;
+
+    public DfsSolver(MazeView mf, int t) {
+        super(mf, t);
+    }
+
+    @Override
+    public Queue<MazeCell> solveMaze(MazeCell[][] maze) {
+        GridStore store=GridStore.of(maze);
+        return toCellPath(maze, store, solvePath(store));
+    }
+
+    /**
+     * Implements the DFS algorithm recursively
+     * @param store the store of the maze
+     * @return the indices of the cells from the source to the destination
+     */
+    @Override
+    public int[] solvePath(GridStore store) {
+        StepListener listener=stepListener();
+
+        //Every solve has its own state, so the same maze can be solved by many threads at once.
+        //The context also keeps the listener and the heads of the branches, as the recursion runs on several threads.
+        SolveContext context=new SolveContext(store, listener);
+        this.context=context;
+        //We find our source and destination cells.
+        int source=store.findEntrance();
+        int destination=store.findExit();
+        //Initial call to the recursive method.
+        context.visit(source);
+        dfsRec(context, source, destination);
+        //We build the path by following the parents back from the end
+        int[] path=context.buildPath(source, destination);
+        listener.finished();
+
+        return path;
+    }
+
+    /**
+     * The recursive implementation of the dfs algorithm.
+     * It calls itself on all of current's neighbours.
+     * If the destination was reached it stops.
+     * @param context the state of the search, the current cell has already been visited in it
+     * @param current the index of the current cell
+     * @param destination the index of the exit
+     */
+    public void dfsRec(SolveContext context, int current, int destination) {
+
+        GridStore store=context.getStore();
+        StepListener listener=context.getListener();
+        context.addHead(current);
+
+        listener.step();
+        //Stop condition
+        if(current==destination){
+            //The context is shared by the threads of this solve, so they will know if it is time to stop
+            context.setFound();
+            context.removeHead(current);
+            return;
+        }
+        //For all neighbouring cells, if they are yet to be visited and so far no solution has been found,
+        //it calls itself, with the new cell as current.
+        //DFS works by going as deep as it can, then backtracking if no solution has been found
+        int valid=getValidDirections(store, current);
+        List<Directions> directions=new ArrayList<>(4);
+        for(Directions d : DIRECTIONS){
+            if((valid & d.getBValue())!=0 && !context.isVisited(store.neighbour(current, d)))
+                directions.add(d);
+        }
+        //A corridor has nothing to run in parallel, so the stream is only created at junctions
+        (directions.size()>1 ? directions.parallelStream() : directions.stream()).forEach(d ->{
+            context.removeHead(current);
+            int cell=store.neighbour(current, d);
+            //Visiting is atomic, so only one thread can enter a cell
+            if (!context.isFound() && context.visit(cell)) {
+                context.setParent(cell, d.getOpposite());
+                dfsRec(context, cell, destination);
+
+            }
+        });
+        context.removeHead(current);
+
+    }
+
+    @Override
+    public MazeSolver clone() throws CloneNotSupportedException {
+        return new DfsSolver(mf, solverDelay);
+    }
+
+    /**
+     * @return {@link #context}, the state of the current solution, or null if the solver is not running
+     */
+    public SolveContext getContext(){
+        return context;
+    }
+
+    /**
+     * Tells whether the cell is the head of a branch of the search. Used by the UI to draw the sub-steps of the solution.
+     * @param idx the index of the cell
+     * @return true if the cell is the head of a branch of the search
+     */
+    public boolean isHead(int idx){
+        SolveContext context=this.context;
+        return context!=null && context.isHead(idx);
+    }
+
+    @Override
+    public void reset() {
+        context=null;
+    }
+}
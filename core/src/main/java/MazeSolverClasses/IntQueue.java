@@ -0,0 +1,59 @@
+package MazeSolverClasses;
+
+/**
+ * A FIFO queue of cell indices in a ring buffer, that grows when it is full.
+ * The frontier of a search in a maze is usually small compared to the maze, so it is much cheaper
+ * than an array with a slot for every cell.
+ */
+class IntQueue {
+    private int[] elements=new int[16];
+    private int head=0;
+    private int size=0;
+
+    boolean isEmpty(){
+        return size==0;
+    }
+
+    int size(){
+        return size;
+    }
+
+    void add(int idx){
+        if(size==elements.length){
+            //Unrolls the ring into a bigger array
+            int[] bigger=new int[size*2];
+            System.arraycopy(elements, head, bigger, 0, size-head);
+            System.arraycopy(elements, 0, bigger, size-head, head);
+            elements=bigger;
+            head=0;
+        }
+        elements[(head+size)%elements.length]=idx;
+        size++;
+    }
+
+    int poll(){
+        int idx=elements[head];
+        head=(head+1)%elements.length;
+        size--;
+        return idx;
+    }
+
+    void clear(){
+        head=size=0;
+    }
+
+    /**
+     * Only used for drawing, as it checks every element of the queue.
+     * @param idx the index of a cell
+     * @return true if the cell is in the queue
+     */
+    boolean contains(int idx){
+        int[] elements=this.elements;
+        int head=this.head, size=this.size;
+        for(int i=0;i<size;i++){
+            if(elements[(head+i)%elements.length]==idx)
+                return true;
+        }
+        return false;
+    }
+}
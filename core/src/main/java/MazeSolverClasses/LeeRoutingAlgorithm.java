@@ -0,0 +1,146 @@
+package MazeSolverClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.MazeView;
+
+import java.util.*;
+
+/**
+ * Implements Lee's algorithm, one of the Routing algorithms. Inherits from MazeSolver.
+ * It works directly on the store of the maze.
+ */
+public class LeeRoutingAlgorithm extends MazeSolver{
+
+    /**
+     * Stores each cell's distance from the source, -1 if the wave has not reached it yet.
+     */
+    private int[] distances;
+    /**
+     * The store of the maze we solved last
+     */
+    private GridStore store;
+
+
+
+    public LeeRoutingAlgorithm(MazeView mf, int t){
+        super(mf, t);
+    }
+
+    @Override
+    public Queue<MazeCell> solveMaze(MazeCell[][] maze) {
+        GridStore store=GridStore.of(maze);
+        return toCellPath(maze, store, solvePath(store));
+    }
+
+    /**
+     * Implements Lee's algorithm.
+     * It makes use of the fact that a neighboruing cell has a distance +-1 from the current one.
+     * We check the neighbours of the cells, if they are yet to be visited we assign the incremented value.
+     * @param store the store of the maze
+     * @return the indices of the cells from the source to the destination
+     */
+    @Override
+    public int[] solvePath(GridStore store) {
+        listener=stepListener();
+        this.store=store;
+        //initialize the distances by assigning a value of -1 to each, except the source cell.
+        int[] distances=new int[store.capacity()];
+        Arrays.fill(distances, -1);
+        //The source cell
+        int source=store.findEntrance();
+        distances[source]=0;
+        this.distances=distances;
+        //The destination we want to reach.
+        int destination=store.findExit();
+        //The cells with the current distance (the wave), and the cells of the next wave.
+        int[] wave=new int[]{source};
+        int waveSize=1;
+        int[] nextWave=new int[16];
+        int currentDist=0;
+
+        //If the destination has been found, break is called with this label.
+        outerLoop:
+        while(destination!=source && waveSize>0){
+
+            listener.step();
+
+            int nextSize=0;
+            //For all the cells with the given distance
+            for(int i=0;i<waveSize;i++){
+                int current=wave[i];
+                int valid=getValidDirections(store, current);
+
+                //Propagation
+                //We set the distance of the neighbours that have yet to be reached to +1 of the current cell.
+                for(Directions d : DIRECTIONS){
+                    if((valid & d.getBValue())==0)
+                        continue;
+                    int cell=store.neighbour(current, d);
+                    if(distances[cell]>=0)
+                        continue;
+                    distances[cell]=currentDist+1;
+                    if(cell==destination)
+                        break outerLoop;
+                    if(nextSize==nextWave.length)
+                        nextWave=Arrays.copyOf(nextWave, nextSize*2);
+                    nextWave[nextSize++]=cell;
+                }
+            }
+            //The next wave becomes the current one
+            int[] temp=wave;
+            wave=nextWave;
+            nextWave=temp;
+            waveSize=nextSize;
+            currentDist++;
+
+
+        }
+
+        //Builds path
+        //We step back from the destination, always to the neighbour which is one step closer to the source.
+        int[] path=new int[distances[destination]+1];
+        int current=destination;
+        for(int i=path.length-1;i>0;i--){
+            path[i]=current;
+            int valid=getValidDirections(store, current);
+            for(Directions d : DIRECTIONS){
+                if((valid & d.getBValue())!=0 && distances[store.neighbour(current, d)]==distances[current]-1){
+                    current=store.neighbour(current, d);
+                    break;
+                }
+            }
+        }
+        path[0]=source;
+
+        listener.finished();
+        return path;
+
+    }
+
+    @Override
+    public LeeRoutingAlgorithm clone() throws CloneNotSupportedException {
+        return new LeeRoutingAlgorithm(mf,solverDelay);
+    }
+
+    /**
+     * @return {@link #store}, the store of the maze that is being solved, or null
+     */
+    public GridStore getStore(){
+        return store;
+    }
+
+    /**
+     * @return {@link #distances}, the distances of the cells from the entrance, -1 for the ones that were not reached
+     */
+    public int[] getDistances(){
+        return distances;
+    }
+
+    @Override
+    public void reset() {
+        distances=null;
+        store=null;
+    }
+}
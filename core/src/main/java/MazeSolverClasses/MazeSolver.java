@@ -0,0 +1,188 @@
+package MazeSolverClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.StepListener;
+import Maze.MazeView;
+
+import java.io.Serializable;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+
+/**
+ * An abstract class from which all maze solvers will inherit.
+ */
+public abstract class MazeSolver implements Serializable {
+
+    /**
+     * The four directions. Directions.values() copies the array on every call, so the hot loops use this instead.
+     */
+    protected static final Directions[] DIRECTIONS=Directions.values();
+
+    /**
+     * The amount of time in ms that the UI waits after each sub-step. The solver itself never waits,
+     * the delay is only kept, so the UI can draw a loaded solver at the same speed with its own listener.
+     */
+    protected int solverDelay;
+    /**
+     * The panel where the maze is drawn. It is not saved with the solver.
+     */
+    protected transient MazeView mf;
+    /**
+     * The listener that was set by {@link #setStepListener(StepListener)}, or null if nothing is notified.
+     */
+    private transient StepListener stepListener;
+    /**
+     * The listener of the current solution, that is notified after each sub-step.
+     */
+    protected transient StepListener listener=StepListener.NONE;
+
+
+    public MazeSolver(MazeView mf1, int solverDelay) {
+        this.mf = mf1;
+        this.solverDelay = solverDelay;
+    }
+
+    /**
+     * Abstract method that the child class must define.
+     * It is used for solving the maze.
+     * @param maze a 2D array of the maze
+     * @return a queue containing the cells that make up the path to the exit
+     */
+    abstract public Queue<MazeCell> solveMaze(MazeCell[][] maze);
+
+    /**
+     * Solves the maze that is kept in the given store.
+     * Solvers that work directly on the store override this method, the others solve the MazeCell view of the store.
+     * @param store the store of the maze
+     * @return the indices of the cells that make up the path from the entrance to the exit
+     */
+    public int[] solvePath(GridStore store){
+        Queue<MazeCell> path=solveMaze(store.getCells());
+        return path.stream().mapToInt(c->store.index(c.getX(),c.getY())).toArray();
+    }
+
+    abstract public MazeSolver clone() throws CloneNotSupportedException;
+
+    /**
+     * Sets the panel where the maze is drawn, for example after the solver was loaded from a file.
+     * @param mf the panel
+     */
+    public void setPanel(MazeView mf){
+        this.mf=mf;
+    }
+
+    /**
+     * Sets the listener that is notified after each sub-step of the solution. The UI draws the solution with it.
+     * @param stepListener the listener, or null if nothing has to be notified
+     */
+    public void setStepListener(StepListener stepListener){
+        this.stepListener=stepListener;
+    }
+
+    /**
+     * Returns the listener that is notified after each sub-step. The solvers call this once at the start of a solution.
+     * @return the listener that was set, or {@link StepListener#NONE}
+     */
+    public StepListener stepListener(){
+        return stepListener!=null ? stepListener : StepListener.NONE;
+    }
+
+    /**
+     * Sets the solver delay to the given amount
+     * @param solverDelay
+     */
+    public void setSolverDelay(int solverDelay) {
+        this.solverDelay = solverDelay;
+    }
+
+    /**
+     *
+     * @return {@link #solverDelay}, the amount of time a thread waits after each sub-step.
+     */
+    public int getSolverDelay() {
+        return solverDelay;
+    }
+
+    /**
+     * A stastic mehtod that returns all the valid neighbours of the cell, in the given matrix.
+     * @param maze a 2D array that represents our maze
+     * @param x the x coordinate of the cell which neighbours we must return
+     * @param y the y coordinate of the cell which neighbours we must retun
+     * @param <T> a cell type that must extend MazeCell
+     * @return a list with all the cells that are valid neighbours of the cell in the given coordinate
+     */
+    public static <T extends MazeCell> List<T> getValidNeighbours(T[][] maze, int x, int y) {
+        List<T> valid = new LinkedList<>();
+
+        //We iterate through the directions
+        for (Directions d : Directions.values()) {
+            //We check if in that direction, we are still in valid territory, and if we have an open wall between the two cells.
+            if (x + d.getXOffset() >= 0 && x + d.getXOffset() < maze[0].length &&
+                    y + d.getYOffset() >= 0 && y + d.getYOffset() < maze.length &&
+                    (maze[y][x].getOpenWalls() & d.getBValue()) == d.getBValue()) {
+                valid.add(maze[y + d.getYOffset()][x + d.getXOffset()]);
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Returns the directions in which the cell has an open wall towards another cell of the maze.
+     * The open walls of the entrance and the exit lead out of the maze, so they are left out.
+     * @param store the store of the maze
+     * @param idx the index of the cell
+     * @return the bit values of the valid directions, in the same 4 bit format as the walls
+     */
+    public static int getValidDirections(GridStore store, int idx){
+        int walls=store.getWalls(idx);
+        //Only the open walls are checked, and the layout can step to a neighbour without computing the coordinates
+        for(Directions d : DIRECTIONS){
+            if((walls & d.getBValue())!=0 && store.neighbour(idx, d)<0)
+                walls&=~d.getBValue();
+        }
+        return walls;
+    }
+
+    /**
+     * Turns a path of cell indices into a queue of the corresponding cells of the 2D array.
+     * @param maze the 2D array of the maze
+     * @param store the store of the same maze
+     * @param path the indices of the cells in the path
+     * @return a queue containing the cells of the path, in the same order
+     */
+    protected static Queue<MazeCell> toCellPath(MazeCell[][] maze, GridStore store, int[] path){
+        Queue<MazeCell> cells=new LinkedList<>();
+        for(int idx: path){
+            cells.add(maze[store.getY(idx)][store.getX(idx)]);
+        }
+        return cells;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null)
+            return false;
+        if (obj.getClass() != this.getClass())
+            return false;
+
+        final MazeSolver other = (MazeSolver) obj;
+        if (this.solverDelay != other.solverDelay)
+            return false;
+        if (!Objects.equals(this.mf, other.mf))
+            return false;
+
+        return true;
+
+    }
+
+    /**
+     * Abstract method that each class must define.
+     * Sets all parameters of the class back to its original state, so if it needs be
+     * the maze can be regenerated or the solution redrawn.
+     */
+    abstract public void reset();
+}
@@ -0,0 +1,81 @@
+package MazeSolverClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.StepListener;
+
+import java.util.BitSet;
+
+/**
+ * Keeps the solution of a maze that keeps changing, like the maze of the {@link MazeGeneratorClasses.OriginShiftGenerator}.
+ * It is added to the generator as a wall listener, and the maze is only solved again, when a wall of the current path was closed.
+ * This is only correct for mazes that stay perfect: there is only one path, so opening a wall can not make a new one,
+ * and the path is only broken if one of its own walls is closed.
+ */
+public class PathTracker extends StepListener {
+
+    /**
+     * The solver that finds the path
+     */
+    private final MazeSolver solver;
+    /**
+     * The maze that is solved
+     */
+    private final GridStore store;
+    /**
+     * The current path, or null if it has to be found again
+     */
+    private int[] path;
+    /**
+     * The cells of the current path
+     */
+    private final BitSet onPath=new BitSet();
+    /**
+     * The number of times the maze was solved
+     */
+    private int solves=0;
+
+    /**
+     * @param solver the solver that finds the path
+     * @param store the maze that is solved
+     */
+    public PathTracker(MazeSolver solver, GridStore store){
+        this.solver=solver;
+        this.store=store;
+    }
+
+    /**
+     * Returns the path from the entrance to the exit. The maze is only solved, if a wall of the last path was closed since then.
+     * @return the indices of the cells of the path
+     */
+    public synchronized int[] getPath(){
+        if(path==null){
+            path=solver.solvePath(store);
+            solves++;
+            onPath.clear();
+            for(int idx : path)
+                onPath.set(idx);
+        }
+        return path;
+    }
+
+    /**
+     * @return {@link #solves}, the number of times the maze was solved
+     */
+    public synchronized int getSolveCount(){
+        return solves;
+    }
+
+    /**
+     * If the closed wall is between two cells of the path, the path is broken, so it is found again on the next call of {@link #getPath()}.
+     * In a perfect maze two neighbouring cells of the path with an open wall between them are always next to each other in the path.
+     */
+    @Override
+    public synchronized void wallChanged(int idx, Directions d, boolean open){
+        if(open || path==null)
+            return;
+        int n=store.neighbour(idx, d);
+        if(onPath.get(idx) && n>=0 && onPath.get(n))
+            path=null;
+    }
+}
@@ -0,0 +1,170 @@
+package MazeSolverClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeCell;
+import Maze.MazeView;
+import Maze.StepListener;
+
+import java.util.*;
+import java.util.List;
+
+/**
+ * Recursive Solver Algorithm. Extends the MazeSolver abstract class.
+ * The state of the search is kept in a {@link SolveContext}, so the maze itself is never modified.
+ */
+public class RecursiveSolver extends MazeSolver{
+
+    /**
+     * The state of the last solve, used for drawing
+     */
+    private volatile SolveContext context;
+    /**
+     * The path found by the last solve, from the source to the destination
+     */
+    private int[] path;
+
+    public RecursiveSolver(MazeView mf, int t){
+        super(mf, t);
+    }
+
+    /**
+     * Returns the path found by the last solve.
+     * @return {@link #path}
+     */
+    public int[] getPath(){
+        return path;
+    }
+
+    @Override
+    public Queue<MazeCell> solveMaze(MazeCell[][] maze) {
+        GridStore store=GridStore.of(maze);
+        return toCellPath(maze, store, solvePath(store));
+    }
+
+    /**
+     * Implement a recursive maze solving algorithm. When the solution has been found, it build the path,
+     * @param store the store of the maze
+     * @return the indices of the cells from the source to the destination
+     */
+    @Override
+    public int[] solvePath(GridStore store) {
+        StepListener listener=stepListener();
+        //Every solve has its own state, so the same maze can be solved by many threads at once.
+        //The context also keeps the listener and the heads of the branches, as the recursion runs on several threads.
+        SolveContext context=new SolveContext(store, listener);
+        this.context=context;
+        int source=store.findEntrance();
+        int destination=store.findExit();
+        listener.changed();
+        //Initial call to the recursive method
+        context.visit(source);
+        recursiveSolve(context,source,destination);
+
+        //Every cell on the right branch knows its parent, so we follow them back from the destination
+        int[] path=context.buildPath(source, destination);
+        this.path=path;
+        listener.finished();
+        return path;
+    }
+
+    /**
+     * The recursive implementation itself.
+     * @param context the state of the search, the current cell has already been visited in it
+     * @param current the index of the current cell
+     * @param destination the index of the exit cell, where we want to get to.
+     * @return boolean indicating if the solution is on this branch
+     */
+    public boolean recursiveSolve(SolveContext context, int current, int destination) {
+        GridStore store=context.getStore();
+        StepListener listener=context.getListener();
+        //Adds it to the heads, so it can be differentiated when the sub-steps are drawn.
+        context.addHead(current);
+
+        listener.step();
+
+        //Stop condition
+        if (destination==current) {
+            context.removeHead(current);
+            return true;
+        } else {
+            //We return all the surrounding nodes, then remove the ones we have already visited
+            int valid=getValidDirections(store, current);
+            List<Directions> directions=new ArrayList<>(4);
+            for(Directions d : DIRECTIONS){
+                if((valid & d.getBValue())!=0 && !context.isVisited(store.neighbour(current, d)))
+                    directions.add(d);
+            }
+
+
+            //Wrapper object, if one of the neighboring nodes return true, this gets set to true
+            //This is used, so we can concurrently check all neighboring nodes, but return the valid value.
+            var w = new Object() {
+                public volatile boolean properWay = false;
+            };
+            //Calls the method on the neighbouring valid cells
+            //Runs in parallel, but a corridor has nothing to run in parallel, so the stream is only created at junctions
+            (directions.size()>1 ? directions.parallelStream() : directions.stream()).forEach(d -> {
+                //Removes the current from the heads cells, as its childs are the new heads.
+                context.removeHead(current);
+                int cell=store.neighbour(current, d);
+                //It there is no solution yet, we call the method recursively. Visiting is atomic, so only one thread enters a cell.
+                if (!context.isFound() && context.visit(cell)) {
+                    context.setParent(cell, d.getOpposite());
+
+                    //If on this branch, we reached the solution
+                    if (recursiveSolve(context, cell, destination)) {
+                        //Sets the flag of the context, so no new thread will be created.
+                        context.setFound();
+                        //sets the boolean to true, so if any one of the cells if a good solution it returns true.
+                        w.properWay = true;
+                    }
+
+                }
+
+
+            });
+            {
+                //Only the cells of the path are worth waiting for
+                if(w.properWay)
+                    listener.step();
+                else
+                    listener.changed();
+
+                context.removeHead(current);
+                //returns false or true based on if any of the cells are part of the path
+                return w.properWay;
+            }
+
+        }
+
+    }
+
+    @Override
+    public RecursiveSolver clone() throws CloneNotSupportedException {
+        return new RecursiveSolver(mf,solverDelay);
+    }
+
+    /**
+     * @return {@link #context}, the state of the current solution, or null if the solver is not running
+     */
+    public SolveContext getContext(){
+        return context;
+    }
+
+    /**
+     * Tells whether the cell is the head of a branch of the search. Used by the UI to draw the sub-steps of the solution.
+     * @param idx the index of the cell
+     * @return true if the cell is the head of a branch of the search
+     */
+    public boolean isHead(int idx){
+        SolveContext context=this.context;
+        return context!=null && context.isHead(idx);
+    }
+
+    @Override
+    public void reset(){
+        context=null;
+        path=null;
+    }
+}
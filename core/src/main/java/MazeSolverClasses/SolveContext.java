@@ -0,0 +1,211 @@
+package MazeSolverClasses;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.StepListener;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores the state of a single solve: which cells have been visited, and from which direction each cell was reached.
+ * Every call of a solver creates its own context, so the maze itself is never modified,
+ * and any number of threads can solve the same maze at the same time.
+ * A cell takes three bits: one for the visited flag and two for the direction of its parent.
+ * The updates are atomic, so the threads of a parallel solver can share one context.
+ */
+public class SolveContext {
+
+    /**
+     * Used for updating the words of the bitsets atomically.
+     */
+    private static final VarHandle WORDS=MethodHandles.arrayElementVarHandle(long[].class);
+    /**
+     * The directions, indexed by their ordinal
+     */
+    private static final Directions[] DIRECTIONS=Directions.values();
+
+    /**
+     * The store of the maze we are solving
+     */
+    private final GridStore store;
+    /**
+     * The visited flags, 64 cells in a word.
+     */
+    private final long[] visited;
+    /**
+     * The direction in which the parent of each cell is, as the ordinal of a {@link Directions}.
+     * 32 cells in a word, two bits each.
+     */
+    private final long[] parents;
+    /**
+     * Indicates if a solution has been found, so the other threads of the search can stop.
+     */
+    private volatile boolean found=false;
+    /**
+     * The cells of the path, once it has been built. Only used for drawing.
+     */
+    private volatile BitSet path;
+    /**
+     * The listener of this solve, that is notified after each sub-step
+     */
+    private final StepListener listener;
+    /**
+     * The cells at the heads of the branches of a parallel search. Only used for drawing,
+     * so they are only kept if there is a listener that can draw them, otherwise it is null.
+     */
+    private final Set<Integer> heads;
+
+    public SolveContext(GridStore store){
+        this(store, StepListener.NONE);
+    }
+
+    /**
+     * @param store the store of the maze
+     * @param listener the listener of the solve. The heads of the search are only kept if it is not {@link StepListener#NONE}.
+     */
+    public SolveContext(GridStore store, StepListener listener){
+        this.store=store;
+        this.listener=listener;
+        heads=listener!=StepListener.NONE ? ConcurrentHashMap.newKeySet() : null;
+        visited=new long[(int)(((long)store.capacity()+63)>>>6)];
+        parents=new long[(int)(((long)store.capacity()+31)>>>5)];
+    }
+
+    /**
+     * @return {@link #listener}, the listener of this solve
+     */
+    public StepListener getListener(){
+        return listener;
+    }
+
+    /**
+     * Marks the cell as the head of a branch of the search, if the heads are kept.
+     * @param idx the index of a cell
+     */
+    public void addHead(int idx){
+        if(heads!=null)
+            heads.add(idx);
+    }
+
+    /**
+     * @param idx the index of a cell, that is no longer the head of a branch
+     */
+    public void removeHead(int idx){
+        if(heads!=null)
+            heads.remove(idx);
+    }
+
+    /**
+     * @param idx the index of a cell
+     * @return true if the cell is the head of a branch of the search
+     */
+    public boolean isHead(int idx){
+        return heads!=null && heads.contains(idx);
+    }
+
+    /**
+     * @return {@link #store}, the store of the maze that is being solved
+     */
+    public GridStore getStore(){
+        return store;
+    }
+
+    /**
+     * @param idx the index of a cell
+     * @return true if the cell has been visited
+     */
+    public boolean isVisited(int idx){
+        return (visited[idx>>>6] & (1L<<idx))!=0;
+    }
+
+    /**
+     * Marks the cell as visited.
+     * @param idx the index of a cell
+     * @return true if the cell has not been visited before. If several threads visit a cell at the same time,
+     * only one of them gets true.
+     */
+    public boolean visit(int idx){
+        long bit=1L<<idx;
+        return ((long)WORDS.getAndBitwiseOr(visited, idx>>>6, bit) & bit)==0;
+    }
+
+    /**
+     * Stores the direction in which the parent of a cell is, that is, the cell from which we reached it.
+     * @param idx the index of a cell
+     * @param d the direction of the parent
+     */
+    public void setParent(int idx, Directions d){
+        int shift=(idx & 0x1f)<<1;
+        long mask=0x3L<<shift;
+        long bits=((long)d.ordinal())<<shift;
+        long old;
+        do{
+            old=(long)WORDS.getVolatile(parents, idx>>>5);
+        }while(!WORDS.compareAndSet(parents, idx>>>5, old, (old & ~mask) | bits));
+    }
+
+    /**
+     * @param idx the index of a cell
+     * @return the direction in which the parent of the cell is
+     */
+    public Directions getParentDirection(int idx){
+        return DIRECTIONS[(int)(parents[idx>>>5] >>> ((idx & 0x1f)<<1)) & 0x3];
+    }
+
+    /**
+     * @param idx the index of a cell
+     * @return the index of the parent of the cell
+     */
+    public int getParent(int idx){
+        return store.neighbour(idx, getParentDirection(idx));
+    }
+
+    /**
+     * @return {@link #found}, true if a solution has been found
+     */
+    public boolean isFound(){
+        return found;
+    }
+
+    /**
+     * Signals the other threads, that a solution has been found.
+     */
+    public void setFound(){
+        found=true;
+    }
+
+    /**
+     * Builds the path by following the parents from the destination back to the source.
+     * @param source the index of the source cell
+     * @param destination the index of the destination cell
+     * @return the indices of the cells from the source to the destination
+     */
+    public int[] buildPath(int source, int destination){
+        int length=1;
+        for(int current=destination;current!=source;current=getParent(current))
+            length++;
+        int[] cells=new int[length];
+        BitSet onPath=new BitSet(store.capacity());
+        int current=destination;
+        for(int i=length-1;i>=0;i--){
+            cells[i]=current;
+            onPath.set(current);
+            current=getParent(current);
+        }
+        path=onPath;
+        return cells;
+    }
+
+    /**
+     * @param idx the index of a cell
+     * @return true if the cell is part of the path built by {@link #buildPath(int, int)}
+     */
+    public boolean isOnPath(int idx){
+        BitSet onPath=path;
+        return onPath!=null && onPath.get(idx);
+    }
+}
@@ -2,11 +2,11 @@ package MazeSolverClasses;
 
 import Maze.Directions;
 import Maze.MazeCell;
-import MazeApplicationUI.MazeMainPanel;
+import Maze.MazeView;
 
-import java.awt.*;
 import java.util.*;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * This class implements the Tremaux Algorithm. It extends the MazeSolver base class.
@@ -16,10 +16,10 @@ import java.util.List;
 public class TremauxSolver extends MazeSolver{
 
 
-    public TremauxSolver(MazeMainPanel mf){
+    public TremauxSolver(MazeView mf){
         super(mf,0);
     }
-    public TremauxSolver(MazeMainPanel mf, int t){
+    public TremauxSolver(MazeView mf, int t){
         this(mf);
         this.solverDelay=t;
     }
@@ -54,30 +54,6 @@ public class TremauxSolver extends MazeSolver{
         return new TremauxSolver(mf,solverDelay);
     }
 
-    @Override
-    public void draw(Graphics g) {
-        if(cells!=null) {
-            Graphics2D g2d = (Graphics2D) g;
-            g2d.setStroke(new BasicStroke(5));
-            int offset=MazeMainPanel.getOffset();
-            for (int row = 0; row < cells.length; row++) {
-                for (int column = 0; column < cells[0].length; column++) {
-                    if (cells[row][column].marking > 0 || current.equals(cells[row][column])) {
-                        if (current.equals(cells[row][column]))
-                            g2d.setColor(Color.RED);
-                        else if (cells[row][column].getMarking() == 1)
-                            g2d.setColor(Color.green);
-                        else if (cells[row][column].getMarking() == 2)
-                            g2d.setColor(Color.black);
-                        g2d.fillOval(column * offset + offset / 2- offset/6, row * offset + offset / 2-offset/6, offset / 3, offset / 3);
-
-
-                    }
-                }
-            }
-        }
-    }
-
     @Override
     public void reset() {
         cells=null;
@@ -92,6 +68,7 @@ public class TremauxSolver extends MazeSolver{
      * @return a queue with the path from source to destination cell
      */
     public Queue<MazeCell> solveMaze(MazeCell[][] maze){
+        listener=stepListener();
 
         Queue<MarkedCell> path=new LinkedList<>();
         //Create a new 2D array with MarkedCells, so we can store the amount of time we have been there.
@@ -111,6 +88,8 @@ public class TremauxSolver extends MazeSolver{
                 .findFirst().get();
         //Initial direction we want to go
         Directions d=Directions.South;
+        //Chooses the way at the junctions. It is created once per solution, not at every junction
+        RandomGenerator rnd=new SplittableRandom();
 
         //loop stops when we are at the destination cell
         while(!current.equals(destination)){
@@ -161,7 +140,6 @@ public class TremauxSolver extends MazeSolver{
                 //The amount of cells in the junction, which are yet to be visited
                 long count = valid.stream().filter(c -> c.marking==0).count();
 
-                Random rnd=new Random();
                 int idx=0;
 
                 //We must trace back, as we exhausted all our other options
@@ -228,15 +206,7 @@ public class TremauxSolver extends MazeSolver{
 
             }
 
-            if(solverDelay>0) {
-                try {
-                    Thread.sleep(solverDelay);
-                    mf.repaint();
-
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }
+            listener.step();
 
         }
 
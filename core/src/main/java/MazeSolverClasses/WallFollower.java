@@ -2,10 +2,8 @@ package MazeSolverClasses;
 
 import Maze.Directions;
 import Maze.MazeCell;
-import MazeApplicationUI.MazeMainPanel;
+import Maze.MazeView;
 
-import java.awt.*;
-import java.awt.geom.GeneralPath;
 import java.util.*;
 
 public class WallFollower extends MazeSolver{
@@ -19,53 +17,24 @@ public class WallFollower extends MazeSolver{
     }
 
 
-    public WallFollower(boolean right, MazeMainPanel mf){
+    public WallFollower(boolean right, MazeView mf){
         super(mf, 0);
         this.right=right;
     }
-    public WallFollower(MazeMainPanel mf){
+    public WallFollower(MazeView mf){
         super(mf,0);
     }
-    public WallFollower(boolean right, MazeMainPanel mf, int t){
+    public WallFollower(boolean right, MazeView mf, int t){
         super(mf, t);
         this.right=right;
     }
-    public WallFollower(MazeMainPanel mf, int t){this(true,mf,t);}
+    public WallFollower(MazeView mf, int t){this(true,mf,t);}
 
     @Override
     public WallFollower clone(){
         return new WallFollower(right,mf,solverDelay);
     }
 
-    @Override
-    public void draw(Graphics g) {
-
-
-        if (path.size() > 0) {
-            int offset = MazeMainPanel.getOffset();
-            int borderSize = MazeMainPanel.getOffset();
-            Graphics2D g2d = (Graphics2D) g;
-            g2d.setColor(new Color(0, 255, 0));
-            g2d.setStroke(new BasicStroke(5));
-            Queue<MazeCell> currentPath = new LinkedList<>(path);
-            MazeCell last = currentPath.peek();
-            GeneralPath gpath = new GeneralPath(GeneralPath.WIND_EVEN_ODD);
-
-            gpath.moveTo( offset/2, offset/2);
-            while (currentPath.size() > 0) {
-
-                MazeCell current = currentPath.poll();
-                gpath.lineTo(current.getX() * offset + offset/2, current.getY() * offset +offset/2);
-                if (currentPath.size() == 1)
-                    last = currentPath.peek();
-
-            }
-            g2d.draw(gpath);
-            g2d.setColor(Color.RED);
-            g2d.fillOval(last.getX() * offset + offset / 2  - offset / 6, last.getY() * offset + offset / 2 - offset / 6, offset / 3, offset / 3);
-        }
-    }
-
     @Override
     public void reset() {
         path.clear();
@@ -77,6 +46,7 @@ public class WallFollower extends MazeSolver{
     }
 
     public Queue<MazeCell> solveMaze(MazeCell[][] maze){
+        listener=stepListener();
 
         path.clear();
         //Starting cell
@@ -107,15 +77,7 @@ public class WallFollower extends MazeSolver{
                     solver = maze[solver.getY() + currentDirection.getYOffset()][solver.getX() + currentDirection.getXOffset()];
                     path.add(solver);
 
-                    if (solverDelay > 0) {
-                        try {
-                            Thread.sleep(solverDelay);
-                            mf.repaint();
-
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    }
+                    listener.step();
 
                 }
                 //Otherwise, we will follow our right/left hand as long as the next step will result in an open right/left-hand wall.
@@ -127,15 +89,7 @@ public class WallFollower extends MazeSolver{
                         solver = maze[solver.getY() + currentDirection.getYOffset()][solver.getX() + currentDirection.getXOffset()];
                         path.add(solver);
                         currentDirection = Directions.turnSideways(currentDirection, right);
-                        if(solverDelay>0) {
-                            try {
-                                Thread.sleep(solverDelay);
-                                mf.repaint();
-
-                            } catch (InterruptedException e) {
-                                e.printStackTrace();
-                            }
-                        }
+                        listener.step();
 
                     }
                 }
@@ -158,12 +112,7 @@ public class WallFollower extends MazeSolver{
                     solver = maze[solver.getY() + currentDirection.getYOffset()][solver.getX() + currentDirection.getXOffset()];
                     path.add(solver);
                 }
-                try {
-                    Thread.sleep(solverDelay);
-                    mf.repaint();
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
+                listener.step();
             }
         }
 
@@ -0,0 +1,386 @@
+import Maze.Directions;
+import Maze.CellLayout;
+import Maze.ChunkWindowStore;
+import Maze.ChunkedMaze;
+import Maze.GridStore;
+import Maze.Maze;
+import Maze.MazeCell;
+import Maze.OffHeapGridStore;
+import Maze.PackedGridStore;
+import Maze.PersistentGridStore;
+import Maze.StepListener;
+import Maze.TiledMortonLayout;
+import Maze.VisitMarks;
+import Maze.MazeView;
+import MazeGeneratorClasses.MazeGenerator;
+import MazeGeneratorClasses.MazeType;
+import MazeGeneratorClasses.TiledGenerator;
+import MazeSolverClasses.AStarSolver;
+import MazeSolverClasses.BfsSolver;
+import MazeSolverClasses.DeadEndFillingSolver;
+import MazeSolverClasses.LeeRoutingAlgorithm;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//Tests the packed store and the MazeCell view on top of it
+public class TestGridStore {
+
+    GridStore store;
+
+    @Before
+    public void setUp(){
+        store=new PackedGridStore(7,5);
+    }
+
+    @Test
+    public void testIndices(){
+        Assert.assertEquals(35,store.size());
+        int idx=store.index(3,4);
+        Assert.assertEquals(3,store.getX(idx));
+        Assert.assertEquals(4,store.getY(idx));
+        Assert.assertEquals(-1,store.neighbour(store.index(0,0),Directions.North));
+        Assert.assertEquals(-1,store.neighbour(store.index(6,2),Directions.East));
+        Assert.assertEquals(store.index(2,3),store.neighbour(store.index(2,2),Directions.South));
+    }
+
+    @Test
+    public void testWalls(){
+        //Every cell should keep its own walls, even though neighbouring cells share a word
+        for(int i=0;i<store.size();i++)
+            store.setWalls(i,i%16);
+        for(int i=0;i<store.size();i++)
+            Assert.assertEquals(i%16,store.getWalls(i));
+
+        store.clear();
+        store.openWall(17,Directions.East.getBValue());
+        store.openWall(17,Directions.South.getBValue());
+        Assert.assertEquals(0x6,store.getWalls(17));
+        Assert.assertEquals(0,store.getWalls(16));
+        Assert.assertEquals(0,store.getWalls(18));
+        store.closeWall(17,Directions.East.getBValue());
+        Assert.assertEquals(0x4,store.getWalls(17));
+    }
+
+    @Test
+    public void testOpenPassage(){
+        int idx=store.index(2,2);
+        store.openPassage(idx,Directions.West);
+        Assert.assertTrue(store.isOpen(idx,Directions.West));
+        Assert.assertTrue(store.isOpen(store.index(1,2),Directions.East));
+        store.closePassage(idx,Directions.West);
+        Assert.assertEquals(0,store.getWalls(idx));
+        Assert.assertEquals(0,store.getWalls(store.index(1,2)));
+    }
+
+    @Test
+    public void testCellView(){
+        Maze maze=new Maze(store);
+        MazeCell[][] cells=maze.getMaze();
+        Assert.assertSame(cells,maze.getMaze());
+        Assert.assertSame(store,GridStore.of(cells));
+
+        //Writing the cells writes the store and the other way around
+        cells[1][1].openWall(Directions.North.getBValue());
+        cells[1][1].openOppositeWall(Directions.North.getBValue());
+        Assert.assertEquals(0x5,store.getWalls(store.index(1,1)));
+        store.openWall(store.index(4,3),0xf);
+        Assert.assertEquals(4,cells[3][4].openWallNumber());
+    }
+
+    @Test
+    public void testVisitMarks(){
+        VisitMarks marks=store.getVisitMarks();
+        MazeCell[][] cells=store.getCells();
+        cells[2][3].setVisited(true);
+        Assert.assertTrue(marks.isVisited(store.index(3,2)));
+        //Clearing many times, so the epoch counter wraps around at least once
+        for(int i=0;i<600;i++){
+            marks.visit(i%store.size());
+            marks.clear();
+            for(int j=0;j<store.size();j++)
+                Assert.assertFalse(marks.isVisited(j));
+        }
+        Assert.assertFalse(cells[2][3].isVisited());
+        marks.visit(5);
+        Assert.assertTrue(marks.isVisited(5));
+        marks.unvisit(5);
+        Assert.assertFalse(marks.isVisited(5));
+    }
+
+    @Test
+    public void testGenerateOnStore(){
+        //A generator without a panel never needs the MazeCell view
+        MazeGenerator generator=new MazeGenerator(store,(MazeView) null);
+        generator.generateMaze();
+        int open=0;
+        for(int i=0;i<store.size();i++)
+            open+=Integer.bitCount(store.getWalls(i));
+        //A perfect maze has size-1 passages, each of them stored in two cells, plus the entrance and the exit
+        Assert.assertEquals(2*(store.size()-1)+2,open);
+        Assert.assertTrue(store.findExit()>=0);
+    }
+
+    @Test
+    public void testMortonLayout(){
+        //The size is not a multiple of the tile size, so the edge tiles have holes
+        CellLayout layout=new TiledMortonLayout(37,21,3);
+        Assert.assertTrue(layout.capacity()>=37*21);
+        int cells=0;
+        for(int idx=0;idx<layout.capacity();idx++){
+            if(layout.isCell(idx))
+                cells++;
+        }
+        Assert.assertEquals(37*21,cells);
+        for(int y=0;y<21;y++){
+            for(int x=0;x<37;x++){
+                int idx=layout.index(x,y);
+                Assert.assertEquals(x,layout.getX(idx));
+                Assert.assertEquals(y,layout.getY(idx));
+                //Stepping inside the tiles must give the same cell as going through the coordinates
+                for(Directions d : Directions.values()){
+                    int nx=x+d.getXOffset(), ny=y+d.getYOffset();
+                    int expected=nx<0 || nx>=37 || ny<0 || ny>=21 ? -1 : layout.index(nx,ny);
+                    Assert.assertEquals(expected,layout.neighbour(idx,d));
+                }
+            }
+        }
+
+        //The generators and solvers only see indices, so they work the same way on any layout
+        Maze maze=new Maze(layout);
+        GridStore morton=maze.getStore();
+        new MazeGenerator(morton,(MazeView) null).generateMaze();
+        int open=0;
+        for(int i=0;i<morton.capacity();i++)
+            open+=Integer.bitCount(morton.getWalls(i));
+        Assert.assertEquals(2*(morton.size()-1)+2,open);
+        int[] bfs=new BfsSolver(null,0).solvePath(morton);
+        Assert.assertArrayEquals(bfs,new DeadEndFillingSolver(null,0).solvePath(morton));
+        Assert.assertEquals(morton.findExit(),bfs[bfs.length-1]);
+    }
+
+    @Test
+    public void testSnapshots(){
+        //Big enough to have several chunks
+        PersistentGridStore persistent=new PersistentGridStore(300,200);
+        GridStore empty=persistent.snapshot();
+        persistent.openPassage(persistent.index(5,5),Directions.East);
+        persistent.openPassage(persistent.index(250,190),Directions.North);
+        Assert.assertEquals(0,empty.getWalls(persistent.index(5,5)));
+
+        persistent.publish();
+        GridStore first=persistent.snapshot();
+        Assert.assertEquals(Directions.East.getBValue(),first.getWalls(persistent.index(5,5)));
+        persistent.closePassage(persistent.index(5,5),Directions.East);
+        persistent.clear();
+        //The published versions never change
+        Assert.assertEquals(Directions.East.getBValue(),first.getWalls(persistent.index(5,5)));
+        Assert.assertEquals(Directions.North.getBValue(),first.getWalls(persistent.index(250,190)));
+        Assert.assertEquals(0,persistent.getWalls(persistent.index(250,190)));
+        Assert.assertThrows(UnsupportedOperationException.class,() -> first.openWall(0,1));
+    }
+
+    //The readers only ever see complete mazes, while the maze is regenerated again and again
+    @Test
+    public void testSnapshotsWhileRegenerating() throws Exception {
+        Maze maze=new Maze(40,40);
+        maze.addGenerator(new MazeGenerator(maze.getStore(),(MazeView) null));
+        AtomicBoolean running=new AtomicBoolean(true);
+        Thread generator=new Thread(() -> {
+            try{
+                for(int i=0;i<30;i++)
+                    maze.generateMaze();
+            }
+            catch(Exception e){
+                e.printStackTrace();
+            }
+            running.set(false);
+        });
+        generator.start();
+        do{
+            GridStore snapshot=maze.getSnapshot();
+            int open=0;
+            for(int i=0;i<snapshot.capacity();i++)
+                open+=Integer.bitCount(snapshot.getWalls(i));
+            Assert.assertTrue(open==0 || open==2*(snapshot.size()-1)+2);
+        }while(running.get());
+        generator.join();
+    }
+
+    //Every version matches its fingerprint, even if it was published while the tiles were being written on other threads
+    @Test
+    public void testPublishWhileGeneratingTiles() throws Exception {
+        //Big enough to have several chunks
+        PersistentGridStore persistent=new PersistentGridStore(320,320);
+        TiledGenerator generator=new TiledGenerator(persistent,(MazeView) null,MazeType.RPrimsGenerator,16);
+        //Like the repaint listener of the UI, the finished tiles publish from the worker threads
+        generator.setStepListener(new StepListener(){
+            @Override
+            public void step(){
+                persistent.publish();
+            }
+        });
+        AtomicBoolean running=new AtomicBoolean(true);
+        AtomicInteger checked=new AtomicInteger();
+        AtomicInteger broken=new AtomicInteger();
+        Thread publisher=new Thread(() -> {
+            while(running.get()){
+                persistent.publish();
+                GridStore snapshot=persistent.snapshot();
+                PackedGridStore copy=new PackedGridStore(snapshot.getWidth(),snapshot.getHeight());
+                for(int i=0;i<snapshot.capacity();i++)
+                    copy.setWalls(i,snapshot.getWalls(i));
+                if(copy.fingerprint()!=snapshot.fingerprint())
+                    broken.incrementAndGet();
+                checked.incrementAndGet();
+            }
+        });
+        publisher.start();
+        for(int seed=0;seed<10;seed++){
+            persistent.clear();
+            generator.generateMaze(seed);
+        }
+        running.set(false);
+        publisher.join();
+        Assert.assertTrue(checked.get()>0);
+        Assert.assertEquals(0,broken.get());
+    }
+
+    @Test
+    public void testFingerprint(){
+        Assert.assertEquals(0L,store.fingerprint());
+        int idx=store.index(3,3);
+        store.openPassage(idx,Directions.South);
+        long open=store.fingerprint();
+        Assert.assertNotEquals(0L,open);
+        //Opening an open wall again changes nothing
+        store.openWall(idx,Directions.South.getBValue());
+        Assert.assertEquals(open,store.fingerprint());
+        store.closePassage(idx,Directions.South);
+        Assert.assertEquals(0L,store.fingerprint());
+
+        //The same maze gives the same fingerprint in any store, no matter how the walls were written
+        new MazeGenerator(store,(MazeView) null).generateMaze();
+        PersistentGridStore copy=new PersistentGridStore(store.getWidth(),store.getHeight());
+        for(int i=store.size()-1;i>=0;i--)
+            copy.setWalls(i,store.getWalls(i));
+        Assert.assertEquals(store.fingerprint(),copy.fingerprint());
+        copy.publish();
+        long published=copy.fingerprint();
+        copy.openWall(0,Directions.West.getBValue());
+        Assert.assertNotEquals(published,copy.fingerprint());
+        Assert.assertEquals(published,copy.snapshot().fingerprint());
+        copy.clear();
+        Assert.assertEquals(0L,copy.fingerprint());
+    }
+
+    @Test
+    public void testOffHeapStore() throws IOException {
+        Path file=Files.createTempFile("maze",".bin");
+        try{
+            OffHeapGridStore offHeap=new OffHeapGridStore(33,17,file);
+            new MazeGenerator(offHeap,(MazeView) null).generateMaze();
+            offHeap.force();
+
+            //Mapping the same file again gives back the same maze
+            OffHeapGridStore reopened=new OffHeapGridStore(33,17,file);
+            for(int i=0;i<offHeap.size();i++)
+                Assert.assertEquals(offHeap.getWalls(i),reopened.getWalls(i));
+            Assert.assertEquals(offHeap.fingerprint(),reopened.fingerprint());
+
+            int[] bfs=new BfsSolver(null,0).solvePath(reopened);
+            int[] aStar=new AStarSolver(null,0,AStarSolver.Heuristic.MANHATTAN_DISTANCE).solvePath(reopened);
+            Assert.assertArrayEquals(bfs,aStar);
+            Assert.assertEquals(reopened.findExit(),bfs[bfs.length-1]);
+        }
+        finally{
+            Files.deleteIfExists(file);
+        }
+    }
+
+    //Every chunk is generated from its own seed, the neighbouring chunks agree on the passages, and the budget is kept
+    @Test
+    public void testChunkedMaze(){
+        ChunkedMaze world=new ChunkedMaze(MazeType.RKruskalsGenerator, 16, 6, 99);
+        ChunkedMaze other=new ChunkedMaze(MazeType.RKruskalsGenerator, 16, 1000, 99);
+        for(int y=-40;y<40;y++){
+            for(int x=-40;x<40;x++){
+                int walls=world.getWalls(x,y);
+                Assert.assertEquals(other.getWalls(x,y),walls);
+                //Every wall is stored in both of its cells, also on the borders of the chunks
+                Assert.assertEquals(world.isOpen(x,y,Directions.East),world.isOpen(x+1,y,Directions.West));
+                Assert.assertEquals(world.isOpen(x,y,Directions.South),world.isOpen(x,y+1,Directions.North));
+                Assert.assertTrue(world.getResidentChunks()<=6);
+            }
+        }
+        Assert.assertTrue(world.getEvictedChunks()>0);
+        Assert.assertEquals(world.getGeneratedChunks()-world.getEvictedChunks(),world.getResidentChunks());
+
+        //Exactly one passage on every border between two chunks
+        for(int cy=-2;cy<2;cy++){
+            for(int cx=-2;cx<2;cx++){
+                int east=0, south=0;
+                for(int i=0;i<16;i++){
+                    if(world.isOpen(cx*16+15,cy*16+i,Directions.East))
+                        east++;
+                    if(world.isOpen(cx*16+i,cy*16+15,Directions.South))
+                        south++;
+                }
+                Assert.assertEquals(1,east);
+                Assert.assertEquals(1,south);
+            }
+        }
+        //A different seed gives a different maze
+        ChunkedMaze different=new ChunkedMaze(MazeType.RKruskalsGenerator, 16, 6, 100);
+        ChunkWindowStore a=world.window(0,0,63,63), b=different.window(0,0,63,63);
+        Assert.assertNotEquals(a.fingerprint(),b.fingerprint());
+        Assert.assertEquals(a.fingerprint(),other.window(0,0,63,63).fingerprint());
+    }
+
+    //The solvers walk through a window of several chunks like through any other maze
+    @Test
+    public void testSolveAcrossChunks(){
+        ChunkedMaze world=new ChunkedMaze(MazeType.MazeGenerator, 32, 4, 7);
+        ChunkWindowStore window=world.window(-50,70,40,-20);
+        Assert.assertEquals(4*32,window.getWidth());
+        Assert.assertEquals(4*32,window.getHeight());
+        int[] bfs=new BfsSolver(null,0).solvePath(window);
+        int[] aStar=new AStarSolver(null,0,AStarSolver.Heuristic.MANHATTAN_DISTANCE).solvePath(window);
+        int[] lee=new LeeRoutingAlgorithm(null,0).solvePath(window);
+        int[] deadEnd=new DeadEndFillingSolver(null,0).solvePath(window);
+        Assert.assertEquals(bfs.length,aStar.length);
+        Assert.assertEquals(bfs.length,lee.length);
+        Assert.assertEquals(bfs.length,deadEnd.length);
+        for(int[] path : new int[][]{bfs, aStar, lee, deadEnd}){
+            Assert.assertEquals(-50,window.getWorldX(path[0]));
+            Assert.assertEquals(70,window.getWorldY(path[0]));
+            Assert.assertEquals(40,window.getWorldX(path[path.length-1]));
+            Assert.assertEquals(-20,window.getWorldY(path[path.length-1]));
+            //Every step goes through an open wall of the maze
+            for(int i=1;i<path.length;i++){
+                int x=window.getWorldX(path[i-1]), y=window.getWorldY(path[i-1]);
+                int dx=window.getWorldX(path[i])-x, dy=window.getWorldY(path[i])-y;
+                Directions d=dx==1 ? Directions.East : dx==-1 ? Directions.West : dy==1 ? Directions.South : Directions.North;
+                Assert.assertEquals(1,Math.abs(dx)+Math.abs(dy));
+                Assert.assertTrue(world.isOpen(x,y,d));
+            }
+        }
+        //The window keeps its chunks, while the maze only keeps the last few
+        Assert.assertTrue(world.getResidentChunks()<=4);
+
+        //The entrance and the exit are often dead-ends inside a chunk, and the passages between the chunks make loops
+        for(long seed=0;seed<20;seed++){
+            ChunkWindowStore small=new ChunkedMaze(MazeType.RKruskalsGenerator, 16, 8, seed).window(0,0,40,40);
+            int[] path=new DeadEndFillingSolver(null,0).solvePath(small);
+            Assert.assertEquals(new BfsSolver(null,0).solvePath(small).length,path.length);
+            Assert.assertEquals(small.findExit(),path[path.length-1]);
+        }
+        Assert.assertThrows(UnsupportedOperationException.class, () -> window.openWall(0, Directions.East.getBValue()));
+    }
+}
@@ -0,0 +1,575 @@
+import Maze.BatchStats;
+import Maze.Maze;
+import Maze.MazeBatch;
+import Maze.MazeView;
+import MazeGeneratorClasses.AldousBroderWilsonGenerator;
+import MazeGeneratorClasses.BinaryTreeGenerator;
+import MazeGeneratorClasses.CellSelector;
+import MazeGeneratorClasses.EllersGenerator;
+import MazeGeneratorClasses.GrowingTreeGenerator;
+import MazeGeneratorClasses.HuntAndKillGenerator;
+import MazeGeneratorClasses.MazeGenerator;
+import MazeGeneratorClasses.MazeType;
+import MazeGeneratorClasses.OriginShiftGenerator;
+import MazeGeneratorClasses.RKruskalsGenerator;
+import MazeGeneratorClasses.RPrimsGenerator;
+import MazeGeneratorClasses.RecursiveDivisionGenerator;
+import MazeGeneratorClasses.SidewinderGenerator;
+import MazeGeneratorClasses.StoreRowSink;
+import MazeGeneratorClasses.StreamRowSink;
+import MazeGeneratorClasses.TiledGenerator;
+import MazeGeneratorClasses.WilsonsGenerator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import Maze.MazeCell;
+import Maze.Directions;
+
+import Maze.GridStore;
+import Maze.OffHeapGridStore;
+import Maze.PackedGridStore;
+import Maze.StepListener;
+import Maze.TiledMortonLayout;
+import MazeSolverClasses.BfsSolver;
+import MazeSolverClasses.PathTracker;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TestMazeGenerator {
+
+    MazeGenerator generator;
+    Maze maze;
+
+    @Before
+    public void setUp(){
+        maze=new Maze(5,5);
+        //The engine is tested without the Swing panel, on a view that draws nothing
+        generator=new MazeGenerator(maze.getMaze(),new MazeView(){
+            @Override
+            public void setMaze(MazeCell[][] cells){
+            }
+            @Override
+            public void repaint(){
+            }
+        });
+    }
+    @Test
+    public void testClone(){
+        Assert.assertEquals(generator,generator.clone());
+    }
+    @Test
+    public void testSetSleepDrawnTime(){
+        Random rnd=new Random();
+        int t=rnd.nextInt(1000);
+        generator.setSleepDrawTime(t);
+        Assert.assertEquals(t,generator.getSleepDrawTime());
+    }
+    @Test
+    public void testValidNeighbours(){
+        MazeCell[][] temp=maze.getMaze();
+        temp[0][1].setVisited(true);
+        List<MazeCell> valid=generator.returnValidNeighbours(0,0);
+        Assert.assertEquals(1,valid.size());
+    }
+
+    @Test
+    public void testAllNeighbours(){
+        MazeCell[][] temp=maze.getMaze();
+        List<MazeCell> valid=generator.returnAllNeighbours(0,0);
+        Assert.assertEquals(2,valid.size());
+        Assert.assertEquals(temp[0][1],valid.get(0));
+
+        valid=generator.returnAllNeighbours(2,2);
+        Assert.assertEquals(4,valid.size());
+        Assert.assertEquals(temp[1][2],valid.get(0));
+    }
+
+    @Test
+    public void testSetAllToUnvisited(){
+        MazeCell[][] temp=maze.getMaze();
+        temp[0][0].setVisited(true);
+        Assert.assertTrue(temp[0][0].isVisited());
+        generator.setAllToUnvisited();
+        Assert.assertFalse(temp[0][0].isVisited());
+    }
+
+    @Test
+    public void testResetMaze(){
+        final MazeCell[][] temp=maze.getMaze();
+        temp[0][0].setVisited(true);
+        temp[0][0].openWall(Directions.South.getBValue());
+        temp[0][0].openWall(Directions.East.getBValue());
+        temp[2][2].openWall(0xf);
+        generator.resetMaze();
+        Assert.assertEquals(temp[0][0].getOpenWalls(),maze.getMaze()[0][0].getOpenWalls());
+    }
+    @Test
+    public void testGenerateMaze(){
+        MazeCell[][] temp=new MazeCell[maze.getMaze().length][maze.getMaze()[0].length];
+        for(int w=0;w<temp.length;w++){
+            for(int h=0;h<temp[0].length;h++){
+                temp[h][w]=new MazeCell();
+                temp[h][w].setX(w);
+                temp[h][w].setY(h);
+            }
+        }
+        generator.generateMaze();
+        Assert.assertNotEquals(temp[0][0].getOpenWalls(),maze.getMaze()[0][0].getOpenWalls());
+
+    }
+
+    @Test
+    public void testGenerateSpanningTree(){
+        GridStore store=new PackedGridStore(257,129);
+        new MazeGenerator(store,(MazeView) null).generateMaze();
+        assertPerfectMaze(store);
+    }
+
+    @Test
+    public void testKruskalSpanningTree(){
+        GridStore store=new PackedGridStore(new TiledMortonLayout(100,70,3));
+        new RKruskalsGenerator(store,(MazeView) null).generateMaze();
+        assertPerfectMaze(store);
+    }
+
+    @Test
+    public void testPrimSpanningTree(){
+        GridStore store=new PackedGridStore(new TiledMortonLayout(90,75,3));
+        new RPrimsGenerator(store,(MazeView) null).generateMaze();
+        assertPerfectMaze(store);
+    }
+
+    //Every selector makes a perfect maze, and the newest cell gives fewer dead ends than a random one
+    @Test
+    public void testGrowingTreeSpanningTree(){
+        CellSelector[] selectors={CellSelector.NEWEST, CellSelector.OLDEST, CellSelector.RANDOM,
+                CellSelector.mixed(0.25), GrowingTreeGenerator.DEFAULT_SELECTOR};
+        int[] deadEnds=new int[selectors.length];
+        for(int s=0;s<selectors.length;s++){
+            GridStore store=new PackedGridStore(new TiledMortonLayout(80,60,3));
+            new GrowingTreeGenerator(store,(MazeView) null,0,selectors[s]).generateMaze(11);
+            assertPerfectMaze(store);
+            for(int i=0;i<store.capacity();i++)
+                if(store.isCell(i) && Integer.bitCount(store.getWalls(i))==1)
+                    deadEnds[s]++;
+        }
+        Assert.assertTrue(deadEnds[0]<deadEnds[2]);
+    }
+
+    //A selector that asks for the order gets the same cells as a list that really removes them, here oldest and random in turn
+    @Test
+    public void testGrowingTreeKeepsOrder(){
+        GridStore store=new PackedGridStore(40,30);
+        new GrowingTreeGenerator(store,(MazeView) null,0,oldestOrRandom()).generateMaze(21);
+        assertPerfectMaze(store);
+
+        //The same algorithm with a list, from the same seed
+        CellSelector oldestOrRandom=oldestOrRandom();
+        GridStore expected=new PackedGridStore(40,30);
+        java.util.SplittableRandom rnd=new java.util.SplittableRandom(21);
+        BitSet visited=new BitSet();
+        List<Integer> active=new java.util.ArrayList<>();
+        expected.openWall(expected.index(0,0), Directions.North.getBValue());
+        active.add(expected.index(0,0));
+        visited.set(expected.index(0,0));
+        while(!active.isEmpty()){
+            int i=oldestOrRandom.select(0, active.size(), rnd);
+            int current=active.get(i);
+            List<Directions> options=new java.util.ArrayList<>();
+            for(Directions d : Directions.values()){
+                int n=expected.neighbour(current, d);
+                if(n>=0 && !visited.get(n))
+                    options.add(d);
+            }
+            if(options.isEmpty()){
+                active.remove(i);
+                continue;
+            }
+            Directions d=options.get(options.size()>1 ? rnd.nextInt(options.size()) : 0);
+            int next=expected.neighbour(current, d);
+            expected.openPassage(current, d);
+            visited.set(next);
+            active.add(next);
+        }
+        expected.openWall(expected.index(rnd.nextInt(40),29), Directions.South.getBValue());
+        Assert.assertEquals(expected.fingerprint(),store.fingerprint());
+    }
+
+    /**
+     * @return a selector that chooses the oldest cell and a random cell in turn
+     */
+    private static CellSelector oldestOrRandom(){
+        return new CellSelector(){
+            int calls=0;
+            @Override
+            public int select(int head, int tail, java.util.random.RandomGenerator rnd){
+                return calls++%2==0 ? head : head+rnd.nextInt(tail-head);
+            }
+            @Override
+            public boolean needsOrder(){
+                return true;
+            }
+        };
+    }
+
+    @Test
+    public void testHuntAndKillSpanningTree(){
+        GridStore store=new PackedGridStore(new TiledMortonLayout(110,65,3));
+        new HuntAndKillGenerator(store,(MazeView) null).generateMaze();
+        assertPerfectMaze(store);
+        //A single row or column is a corridor
+        store=new PackedGridStore(1,30);
+        new HuntAndKillGenerator(store,(MazeView) null).generateMaze();
+        assertPerfectMaze(store);
+        store=new PackedGridStore(30,1);
+        new HuntAndKillGenerator(store,(MazeView) null).generateMaze();
+        assertPerfectMaze(store);
+    }
+
+    @Test
+    public void testWilsonSpanningTree(){
+        GridStore store=new PackedGridStore(new TiledMortonLayout(60,45,3));
+        new WilsonsGenerator(store,(MazeView) null).generateMaze();
+        assertPerfectMaze(store);
+    }
+
+    @Test
+    public void testAldousBroderWilsonSpanningTree(){
+        for(double coverage : new double[]{0, AldousBroderWilsonGenerator.DEFAULT_SWITCH_COVERAGE, 1}){
+            GridStore store=new PackedGridStore(new TiledMortonLayout(40,30,3));
+            AldousBroderWilsonGenerator g=new AldousBroderWilsonGenerator(store,(MazeView) null);
+            g.setSwitchCoverage(coverage);
+            g.generateMaze();
+            assertPerfectMaze(store);
+            Assert.assertEquals(coverage,g.clone().getSwitchCoverage(),0);
+        }
+    }
+
+    @Test
+    public void testRecursiveDivisionSpanningTree(){
+        for(int cutoff : new int[]{1, RecursiveDivisionGenerator.DEFAULT_SEQUENTIAL_CUTOFF}){
+            GridStore store=new PackedGridStore(new TiledMortonLayout(130,90,3));
+            RecursiveDivisionGenerator g=new RecursiveDivisionGenerator(store,(MazeView) null);
+            g.setSequentialCutoff(cutoff);
+            g.generateMaze();
+            assertPerfectMaze(store);
+        }
+    }
+
+    @Test
+    public void testEllersSpanningTree(){
+        GridStore store=new PackedGridStore(new TiledMortonLayout(70,55,3));
+        new EllersGenerator(store,(MazeView) null).generateMaze();
+        assertPerfectMaze(store);
+        //A single row or column is a corridor
+        store=new PackedGridStore(1,30);
+        new EllersGenerator(store,(MazeView) null).generateMaze();
+        assertPerfectMaze(store);
+        store=new PackedGridStore(30,1);
+        new EllersGenerator(store,(MazeView) null).generateMaze();
+        assertPerfectMaze(store);
+    }
+
+    @Test
+    public void testRowGeneratorsSpanningTree(){
+        int[][] sizes={{70,55},{1,30},{30,1},{1,1}};
+        for(int[] size : sizes){
+            GridStore store=new PackedGridStore(size[0],size[1]);
+            new BinaryTreeGenerator(store,(MazeView) null).generateMaze();
+            assertPerfectMaze(store);
+            store=new PackedGridStore(size[0],size[1]);
+            new SidewinderGenerator(store,(MazeView) null).generateMaze();
+            assertPerfectMaze(store);
+        }
+    }
+
+    @Test
+    public void testTiledSpanningTree(){
+        for(MazeType type : MazeType.values()){
+            GridStore store=new PackedGridStore(new TiledMortonLayout(100,70,3));
+            new TiledGenerator(store,(MazeView) null,type,16).generateMaze();
+            assertPerfectMaze(store);
+        }
+        //A single tile is just the maze of the tile generator
+        GridStore store=new PackedGridStore(20,20);
+        new TiledGenerator(store,(MazeView) null,MazeType.MazeGenerator).generateMaze();
+        assertPerfectMaze(store);
+    }
+
+    @Test
+    public void testEllersStream() throws IOException {
+        //The same rows written into a file can be opened as a store
+        int width=37, height=23;
+        GridStore store=new PackedGridStore(width,height);
+        EllersGenerator.generateRows(width, height, new StoreRowSink(store), new Random(7));
+        Path file=Files.createTempFile("eller", ".maze");
+        try{
+            try(OutputStream out=new BufferedOutputStream(Files.newOutputStream(file))){
+                EllersGenerator.generateRows(width, height, new StreamRowSink(out), new Random(7));
+            }
+            Assert.assertEquals((width*height+1)/2, Files.size(file));
+            OffHeapGridStore stored=new OffHeapGridStore(width, height, file);
+            for(int i=0;i<store.size();i++)
+                Assert.assertEquals(store.getWalls(i), stored.getWalls(i));
+            Assert.assertEquals(store.fingerprint(), stored.fingerprint());
+        }
+        finally{
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testSeededGeneration(){
+        for(MazeType type : MazeType.values()){
+            MazeGenerator generator=type.createGenerator(new PackedGridStore(40,30), null, 0);
+            if(!generator.isReproducible())
+                continue;
+            generator.setSeed(42);
+            generator.generateMaze();
+            long fingerprint=generator.getStore().fingerprint();
+            generator.resetMaze();
+            generator.generateMaze();
+            Assert.assertEquals(type.toString(), fingerprint, generator.getStore().fingerprint());
+            //Without a fixed seed, the seed of the last maze is kept, so it can be generated again
+            generator.clearSeed();
+            generator.resetMaze();
+            generator.generateMaze();
+            long other=generator.getStore().fingerprint();
+            generator.resetMaze();
+            generator.generateMaze(generator.getSeed());
+            Assert.assertEquals(type.toString(), other, generator.getStore().fingerprint());
+            Assert.assertFalse(generator.isSeedFixed());
+        }
+    }
+
+    @Test
+    public void testParallelGenerationIsDeterministic() throws Exception {
+        //The chambers are divided the same way, whether they are tasks or not
+        long expected=0;
+        for(int cutoff : new int[]{1, 64, RecursiveDivisionGenerator.DEFAULT_SEQUENTIAL_CUTOFF, Integer.MAX_VALUE}){
+            RecursiveDivisionGenerator g=new RecursiveDivisionGenerator(new PackedGridStore(300,200),(MazeView) null);
+            g.setSequentialCutoff(cutoff);
+            g.setSeed(11);
+            g.generateMaze();
+            if(cutoff==1)
+                expected=g.getStore().fingerprint();
+            Assert.assertEquals(expected, g.getStore().fingerprint());
+        }
+        //The tiles are the same, no matter how many threads generate them
+        for(int threads : new int[]{1, 4}){
+            ForkJoinPool pool=new ForkJoinPool(threads);
+            try{
+                for(MazeType type : MazeType.values()){
+                    TiledGenerator g=new TiledGenerator(new PackedGridStore(100,70),(MazeView) null,type,16);
+                    g.setSeed(type.ordinal());
+                    pool.submit(() -> g.generateMaze()).get();
+                    TiledGenerator sequential=new TiledGenerator(new PackedGridStore(100,70),(MazeView) null,type,16);
+                    sequential.setSeed(type.ordinal());
+                    sequential.generateMaze();
+                    Assert.assertEquals(type.toString(), sequential.getStore().fingerprint(), g.getStore().fingerprint());
+                }
+            }
+            finally{
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testSeedPersistence() throws Exception {
+        Maze maze=new Maze(new TiledMortonLayout(300,200,3));
+        maze.addGenerator(new RKruskalsGenerator(maze.getStore(), null));
+        maze.generateMaze();
+        long fingerprint=maze.getFingerprint();
+
+        ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+        try(ObjectOutputStream out=new ObjectOutputStream(bytes)){
+            out.writeObject(maze);
+        }
+        //Only the generator, the layout and the seed are saved, not the 60000 cells
+        Assert.assertTrue(bytes.size()<2000);
+        Maze loaded;
+        try(ObjectInputStream in=new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))){
+            loaded=(Maze) in.readObject();
+        }
+        Assert.assertEquals(maze.getSeed(), loaded.getSeed());
+        Assert.assertEquals(fingerprint, loaded.getFingerprint());
+        assertPerfectMaze(loaded.getStore());
+        Assert.assertSame(loaded.getStore(), loaded.getGenerator().getStore());
+
+        //A changed maze can not be regenerated, so its walls are saved
+        maze.getStore().closeWall(maze.getStore().index(0,0), Directions.North.getBValue());
+        bytes=new ByteArrayOutputStream();
+        try(ObjectOutputStream out=new ObjectOutputStream(bytes)){
+            out.writeObject(maze);
+        }
+        try(ObjectInputStream in=new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))){
+            loaded=(Maze) in.readObject();
+        }
+        Assert.assertTrue(bytes.size()>30000);
+        Assert.assertEquals(maze.getFingerprint(), loaded.getFingerprint());
+    }
+
+    @Test
+    public void testBatch(){
+        MazeBatch batch=new MazeBatch(MazeType.RKruskalsGenerator, 30, 20, 25, 5);
+        batch.setParallelism(3);
+        List<Maze> mazes=batch.generate().collect(Collectors.toList());
+        Assert.assertEquals(25, mazes.size());
+        for(Maze maze : mazes)
+            assertPerfectMaze(maze.getStore());
+        BatchStats stats=batch.getStats();
+        Assert.assertEquals(25, stats.getCount());
+        Assert.assertTrue(stats.getMinLatencyNanos()<=stats.getLatencyPercentileNanos(50));
+        Assert.assertTrue(stats.getLatencyPercentileNanos(50)<=stats.getMaxLatencyNanos());
+
+        //The same batch generates the same mazes on any number of threads
+        MazeBatch sequential=new MazeBatch(MazeType.RKruskalsGenerator, 30, 20, 25, 5);
+        sequential.setParallelism(1);
+        long[] fingerprints=sequential.generate().mapToLong(Maze::getFingerprint).toArray();
+        Assert.assertArrayEquals(mazes.stream().mapToLong(Maze::getFingerprint).toArray(), fingerprints);
+
+        //A stream that is not finished can be closed
+        try(Stream<Maze> stream=new MazeBatch(MazeType.MazeGenerator, 10, 10, 1000, 1).generate()){
+            Assert.assertEquals(3, stream.limit(3).count());
+        }
+    }
+
+    @Test
+    public void testStepListener(){
+        //The backtracker notifies the listener after every new passage
+        GridStore store=new PackedGridStore(12,9);
+        MazeGenerator generator=new MazeGenerator(store);
+        int[] steps={0};
+        generator.setStepListener(new StepListener(){
+            @Override
+            public void step(){
+                steps[0]++;
+            }
+        });
+        generator.generateMaze();
+        Assert.assertEquals(store.size()-1, steps[0]);
+        //Without a panel nothing is drawn, whatever the sleep time is
+        generator.setStepListener(null);
+        generator.setSleepDrawTime(1000);
+        Assert.assertSame(StepListener.NONE, generator.stepListener());
+        //Nor with a panel, until the UI attaches its listener
+        this.generator.setSleepDrawTime(1000);
+        Assert.assertSame(StepListener.NONE, this.generator.stepListener());
+    }
+
+    //The maze stays perfect while the origin moves, and the listeners get every changed wall
+    @Test
+    public void testOriginShift(){
+        GridStore store=new PackedGridStore(new TiledMortonLayout(30,20,3));
+        OriginShiftGenerator generator=new OriginShiftGenerator(store);
+        generator.generateMaze(5);
+        assertPerfectMaze(store);
+
+        //A copy of the maze, that is only updated from the changed walls
+        GridStore mirror=new PackedGridStore(new TiledMortonLayout(30,20,3));
+        for(int i=0;i<store.capacity();i++)
+            if(store.isCell(i))
+                mirror.setWalls(i, store.getWalls(i));
+        generator.addWallListener(new StepListener(){
+            @Override
+            public void wallChanged(int idx, Directions d, boolean open){
+                if(open)
+                    mirror.openPassage(idx, d);
+                else
+                    mirror.closePassage(idx, d);
+            }
+        });
+        PathTracker tracker=new PathTracker(new BfsSolver(null,0), store);
+        generator.addWallListener(tracker);
+        for(int i=0;i<300;i++){
+            generator.shift(1);
+            Assert.assertEquals(store.fingerprint(), mirror.fingerprint());
+            int[] path=tracker.getPath();
+            Assert.assertArrayEquals(new BfsSolver(null,0).solvePath(store), path);
+            //The path can also be read from the tree
+            Assert.assertArrayEquals(path, generator.path(store.findEntrance(), store.findExit()));
+        }
+        assertPerfectMaze(store);
+        Assert.assertTrue(tracker.getSolveCount()<300);
+
+        //A generator that did not create the maze builds the tree from the walls
+        OriginShiftGenerator other=new OriginShiftGenerator(store);
+        other.shift(1000);
+        assertPerfectMaze(store);
+    }
+
+    //The tree is built again, when the walls were rewritten by something else
+    @Test
+    public void testOriginShiftAfterRewrite(){
+        GridStore store=new PackedGridStore(20,15);
+        OriginShiftGenerator generator=new OriginShiftGenerator(store);
+        generator.generateMaze(3);
+        store.clear();
+        new RKruskalsGenerator(store).generateMaze(4);
+        generator.shift(500);
+        assertPerfectMaze(store);
+
+        //After a reset the walls are not a maze at all, the tree joins every cell and the changed walls are passed on
+        generator.resetMaze();
+        GridStore mirror=new PackedGridStore(20,15);
+        generator.addWallListener(new StepListener(){
+            @Override
+            public void wallChanged(int idx, Directions d, boolean open){
+                if(open)
+                    mirror.openPassage(idx, d);
+                else
+                    mirror.closePassage(idx, d);
+            }
+        });
+        generator.shift(500);
+        Assert.assertEquals(store.fingerprint(),mirror.fingerprint());
+        //The entrance and the exit were closed by the reset, the rest of the maze is perfect again
+        store.openWall(store.index(0,0), Directions.North.getBValue());
+        store.openWall(store.index(19,14), Directions.South.getBValue());
+        assertPerfectMaze(store);
+    }
+
+    /**
+     * Every cell is reached and there are no loops, so a maze of n cells has n-1 passages
+     */
+    static void assertPerfectMaze(GridStore store){
+        int passages=0;
+        for(int i=0;i<store.capacity();i++)
+            if(store.isCell(i))
+                passages+=Integer.bitCount(store.getWalls(i));
+        //The entrance and the exit are open walls too, and every passage is counted in both cells
+        Assert.assertEquals(2*(store.size()-1)+2,passages);
+        BitSet reached=new BitSet(store.capacity());
+        ArrayDeque<Integer> queue=new ArrayDeque<>();
+        queue.add(store.index(0,0));
+        reached.set(store.index(0,0));
+        while(!queue.isEmpty()){
+            int idx=queue.poll();
+            for(Directions d: Directions.values()){
+                int n=store.neighbour(idx,d);
+                if((store.getWalls(idx) & d.getBValue())!=0 && n>=0 && !reached.get(n)){
+                    reached.set(n);
+                    queue.add(n);
+                }
+            }
+        }
+        Assert.assertEquals(store.size(),reached.cardinality());
+    }
+
+}
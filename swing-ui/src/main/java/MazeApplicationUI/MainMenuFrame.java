@@ -1,5 +1,6 @@
 package MazeApplicationUI;
 
+import Maze.GridStore;
 import Maze.Maze;
 import Maze.MazeCell;
 import MazeExceptions.NoMazeGeneratorFoundException;
@@ -224,7 +225,20 @@ public class MainMenuFrame extends JFrame implements ActionListener {
                     mazeCount = 0;
                     for (int i = 0; i < MazeApplication.mazeList.size(); i++) {
 
-                        panels.add(mazeCount, new MazeMainPanel(MazeApplication.mazeList.get(i).getMaze(), mazeCount));
+                        Maze maze = MazeApplication.mazeList.get(i);
+                        panels.add(mazeCount, new MazeMainPanel(maze.getMaze(), mazeCount));
+                        //The panels are not saved, so the generator and the solver draw on the new one
+                        if (maze.getGenerator() != null) {
+                            MazeGenerator generator = maze.getGenerator();
+                            generator.setPanel(panels.get(i));
+                            generator.setStepListener(RepaintListener.of(panels.get(i), generator.getStore(), generator.getSleepDrawTime()));
+                        }
+                        if (maze.getSolver() != null) {
+                            MazeSolver solver = maze.getSolver();
+                            solver.setPanel(panels.get(i));
+                            solver.setStepListener(RepaintListener.of(panels.get(i), null, solver.getSolverDelay()));
+                            panels.get(i).setSolver(solver);
+                        }
                         JScrollPane scrollPane = new JScrollPane(panels.get(i));
                         scrollPane.createHorizontalScrollBar();
                         paintArea.add(scrollPane, mazeCount);
@@ -255,6 +269,7 @@ public class MainMenuFrame extends JFrame implements ActionListener {
             box.addItem(mazeCount + 1);
             MazeApplication.mazeList.add(new Maze(adderWindow.getMazeWidth(), adderWindow.getMazeHeight()));
             MazeCell[][] mazeCells = MazeApplication.mazeList.get(mazeCount).getMaze();
+            GridStore store = MazeApplication.mazeList.get(mazeCount).getStore();
             MazeGenerator generator;
             MazeMainPanel mf = new MazeMainPanel(mazeCells, mazeCount);
             panels.add(mf);
@@ -262,14 +277,9 @@ public class MainMenuFrame extends JFrame implements ActionListener {
 
 
             //Based of the type of Maze the user selected, it creates a new MazeGenerator object
-            switch (adderWindow.getMazeType()) {
-                case RPrimsGenerator -> generator = new RPrimsGenerator(mazeCells, mf,delay);
-                case WilsonGenerator -> generator = new WilsonsGenerator(mazeCells, mf,delay);
-                case RecursiveDivision -> generator = new RecursiveDivisionGenerator(mazeCells, mf,delay);
-                case RKruskalsGenerator -> generator = new RKruskalsGenerator(mazeCells, mf,delay);
-                case AldousBroderGenerator -> generator = new AldousBroderGenerator(mazeCells, mf,delay);
-                default -> generator = new MazeGenerator(mazeCells, mf,delay);
-            }
+            generator = adderWindow.getMazeType().createGenerator(store, mf, delay);
+            //The generator draws each of its steps on the panel
+            generator.setStepListener(RepaintListener.of(mf, store, delay));
 
             //Adds our new generator to the maze.
             MazeApplication.mazeList.get(mazeCount).addGenerator(generator);
@@ -307,31 +317,8 @@ public class MainMenuFrame extends JFrame implements ActionListener {
 
         //If the dialog window was not destroyed
         if(solverDialogWindow.getSolverType()!=null && solverDialogWindow.getSolverDelay()!=-1){
-            //Gets the solver type that the user selected.
-            SolverType solverType=solverDialogWindow.getSolverType();
-            AStarSolver.Heuristic heuristic= AStarSolver.Heuristic.NONE;
-            boolean right=true;
-            //Gets the solverDelay
-            int solverDelay=solverDialogWindow.getSolverDelay();
-            //If the user selected the A* algorithm, we must also fetch the heuristic type that was selected.
-            if(solverType.equals(SolverType.AStarSolver)){
-                heuristic=solverDialogWindow.getHeuristicType();
-            }
-            else if(solverType.equals(SolverType.WallFollower)){
-                right=solverDialogWindow.getHand();
-            }
-            MazeSolver solver;
-            //Creates a solver based on the user input.
-            switch (solverType) {
-                case BFSSolver -> solver=new BfsSolver(panels.get(i),solverDelay);
-                case DFSSolver -> solver=new DfsSolver(panels.get(i),solverDelay);
-                case DeadEndFillingSolver -> solver=new DeadEndFillingSolver(panels.get(i),solverDelay);
-                case AStarSolver -> solver=new AStarSolver(panels.get(i),solverDelay, heuristic);
-                case LeeRoutingAlgortihm -> solver=new LeeRoutingAlgorithm(panels.get(i),solverDelay);
-                case RecursiveSolver -> solver=new RecursiveSolver(panels.get(i),solverDelay);
-                case TremauxSolver -> solver=new TremauxSolver(panels.get(i),solverDelay);
-                default -> solver=new WallFollower(right,panels.get(i),solverDelay);
-            }
+            //Creates a solver based on the user input, that draws on the panel of the maze.
+            MazeSolver solver=solverDialogWindow.createSolver(panels.get(i));
 
             //Adds the solver
             MazeApplication.mazeList.get(i).addSolver(solver);
@@ -1,7 +1,9 @@
 package MazeApplicationUI;
 
 
+import Maze.GridStore;
 import Maze.MazeCell;
+import Maze.MazeView;
 import MazeGeneratorClasses.MazeGenerator;
 import MazeGeneratorClasses.MazeType;
 import MazeSolverClasses.*;
@@ -16,12 +18,17 @@ import java.util.Queue;
 /**
  * The panel used to draw the maze.
  */
-public class MazeMainPanel extends JPanel {
+public class MazeMainPanel extends JPanel implements MazeView {
 
     /**
      * A 2D array that corresponds to our maze
      */
     private MazeCell[][] maze;
+    /**
+     * The store behind the maze. The panel always draws its last published version,
+     * so it never sees a half written step of the generator.
+     */
+    private GridStore store;
     /**
      * The solution of the maze
      */
@@ -60,8 +67,10 @@ public class MazeMainPanel extends JPanel {
      * Sets the maze
      * @param maze
      */
+    @Override
     public void setMaze(MazeCell[][] maze){
         this.maze=maze;
+        this.store=GridStore.of(maze);
     }
 
     /**
@@ -99,6 +108,7 @@ public class MazeMainPanel extends JPanel {
         Dimension d = new Dimension((maze[0].length + 1) * offset, maze.length * offset);
         this.setPreferredSize(d);
         this.maze = maze;
+        this.store = GridStore.of(maze);
         idx=count;
 
         this.setVisible(true);
@@ -121,17 +131,40 @@ public class MazeMainPanel extends JPanel {
         MazeMainPanel.borderSize = borderSize;
     }
 
+    /**
+     * Draws a single cell again, with its walls. Used when a few walls of a finished maze change,
+     * so the rest of the maze does not have to be drawn.
+     * @param x the x coordinate of the cell
+     * @param y the y coordinate of the cell
+     */
+    @Override
+    public void repaintCell(int x, int y) {
+        repaint(offset * x - borderSize, offset * y - borderSize, offset + 3 * borderSize, offset + 3 * borderSize);
+    }
+
     /**
      * This method draws the maze. It will be called in the paintComponent method.
+     * Only the cells inside the clip of the Graphics object are drawn, so repainting a few cells is cheap.
      * @param g Graphics object used for drawing.
      */
     public void drawMaze(Graphics g) {
         Graphics2D g2d = (Graphics2D) g;
         g2d.setStroke(new BasicStroke(borderSize));
         g2d.setColor(new Color(0, 0, 0));
-        for (int h = 0; h < maze.length; h++) {
-            for (int w = 0; w < maze[0].length; w++) {
-                int walls = maze[h][w].getOpenWalls();
+        GridStore snapshot = store.snapshot();
+        int firstRow = 0, lastRow = snapshot.getHeight() - 1;
+        int firstColumn = 0, lastColumn = snapshot.getWidth() - 1;
+        Rectangle clip = g.getClipBounds();
+        if (clip != null) {
+            //A wall may reach into the next cell by the size of the brush
+            firstRow = Math.max(firstRow, (clip.y - borderSize) / offset);
+            lastRow = Math.min(lastRow, (clip.y + clip.height + borderSize) / offset);
+            firstColumn = Math.max(firstColumn, (clip.x - borderSize) / offset);
+            lastColumn = Math.min(lastColumn, (clip.x + clip.width + borderSize) / offset);
+        }
+        for (int h = firstRow; h <= lastRow; h++) {
+            for (int w = firstColumn; w <= lastColumn; w++) {
+                int walls = snapshot.getWalls(snapshot.index(w, h));
                 if ((walls & 0x1) != 0x1) {
                     g2d.drawLine(offset * w + borderSize / 2, offset * h + borderSize / 2, offset * (w + 1) + borderSize / 2, offset * h + borderSize / 2);
                 }
@@ -185,7 +218,7 @@ public class MazeMainPanel extends JPanel {
         super.paintComponent(g);
         drawMaze(g);
         if(solver!=null)
-            solver.draw(g);
+            SolverPainter.paint(solver, g);
         //This method will only be called, after the solver finished the solving process.
         if (path!=null && finished) {
             drawSolution(g, path);
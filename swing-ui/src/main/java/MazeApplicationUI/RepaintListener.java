@@ -0,0 +1,98 @@
+package MazeApplicationUI;
+
+import Maze.Directions;
+import Maze.GridStore;
+import Maze.MazeView;
+import Maze.StepListener;
+
+/**
+ * Draws the maze after each sub-step of a generator or a solver, and slows them down, so the user can follow them.
+ * The UI attaches it with setStepListener, the algorithms only know it as a {@link StepListener}.
+ */
+public class RepaintListener extends StepListener {
+
+    /**
+     * The time the solvers show the result, before they return it
+     */
+    private static final int FINISH_DELAY=300;
+
+    /**
+     * The view on which the maze is drawn
+     */
+    private final MazeView mf;
+    /**
+     * The store of a generated maze. Its new walls are published before drawing, null for the solvers.
+     */
+    private final GridStore store;
+    /**
+     * The amount of time in ms the algorithm waits after each sub-step
+     */
+    private final int delay;
+
+    public RepaintListener(MazeView mf, GridStore store, int delay){
+        this.mf=mf;
+        this.store=store;
+        this.delay=delay;
+    }
+
+    /**
+     * Returns a listener, that draws on the view with the given delay, or {@link StepListener#NONE} if nothing has to be drawn.
+     * @param mf the view, or null
+     * @param store the store of a generated maze, or null for the solvers
+     * @param delay the delay in ms
+     * @return the listener
+     */
+    public static StepListener of(MazeView mf, GridStore store, int delay){
+        return mf!=null && delay>0 ? new RepaintListener(mf, store, delay) : StepListener.NONE;
+    }
+
+    /**
+     * @return {@link #delay}, the amount of time in ms the algorithm waits after each sub-step
+     */
+    public int getDelay(){
+        return delay;
+    }
+
+    @Override
+    public void step(){
+        try {
+            Thread.sleep(delay);
+            changed();
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public void changed(){
+        //The view draws the last published version
+        if(store!=null)
+            store.publish();
+        mf.repaint();
+    }
+
+    /**
+     * Only the two cells of the wall are drawn again, and the algorithm is not slowed down.
+     * The solvers have no store, so the whole maze is drawn for them.
+     */
+    @Override
+    public void wallChanged(int idx, Directions d, boolean open){
+        if(store==null){
+            mf.repaint();
+            return;
+        }
+        store.publish();
+        mf.repaintCell(store.getX(idx), store.getY(idx));
+        mf.repaintCell(store.getX(idx)+d.getXOffset(), store.getY(idx)+d.getYOffset());
+    }
+
+    @Override
+    public void finished(){
+        try {
+            mf.repaint();
+            Thread.sleep(FINISH_DELAY);
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package MazeApplicationUI;
 
 import MazeGeneratorClasses.MazeType;
-import MazeSolverClasses.AStarSolver;
-import MazeSolverClasses.SolverType;
+import MazeSolverClasses.*;
 
 import javax.swing.*;
 import javax.swing.text.AttributeSet;
@@ -118,6 +117,28 @@ public class SolverDialogWindow extends JDialog implements ActionListener {
         return false;
     }
 
+    /**
+     * Creates the solver the user selected. It draws its sub-steps on the given panel, with the selected delay.
+     * @param panel the panel of the maze
+     * @return the new solver
+     */
+    public MazeSolver createSolver(MazeMainPanel panel){
+        SolverType type=getSolverType();
+        MazeSolver solver;
+        switch (type) {
+            case BFSSolver -> solver=new BfsSolver(panel,delay);
+            case DFSSolver -> solver=new DfsSolver(panel,delay);
+            case DeadEndFillingSolver -> solver=new DeadEndFillingSolver(panel,delay);
+            case AStarSolver -> solver=new AStarSolver(panel,delay, getHeuristicType());
+            case LeeRoutingAlgortihm -> solver=new LeeRoutingAlgorithm(panel,delay);
+            case RecursiveSolver -> solver=new RecursiveSolver(panel,delay);
+            case TremauxSolver -> solver=new TremauxSolver(panel,delay);
+            default -> solver=new WallFollower(getHand(),panel,delay);
+        }
+        solver.setStepListener(RepaintListener.of(panel, null, delay));
+        return solver;
+    }
+
     public SolverDialogWindow(JFrame parent){
         super(parent,ModalityType.APPLICATION_MODAL);
 
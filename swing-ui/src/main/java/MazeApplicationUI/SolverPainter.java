@@ -0,0 +1,189 @@
+package MazeApplicationUI;
+
+import Maze.GridStore;
+import Maze.MazeCell;
+import MazeSolverClasses.*;
+
+import java.awt.*;
+import java.awt.geom.GeneralPath;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.function.IntPredicate;
+
+/**
+ * Draws the sub-steps of the solvers on the panel.
+ * The solvers do not depend on AWT, so their state is read through their getters, and drawn here.
+ */
+public final class SolverPainter {
+
+    private SolverPainter(){
+    }
+
+    /**
+     * Draws the current state of the solver.
+     * @param solver the solver of the maze
+     * @param g Graphics object used to draw.
+     */
+    public static void paint(MazeSolver solver, Graphics g){
+        Graphics2D g2d = (Graphics2D) g;
+        if(solver instanceof AStarSolver s){
+            SolveContext context=s.getContext();
+            int[] distances=s.getDistances();
+            if(context!=null && distances!=null)
+                drawDistances(g2d, context.getStore(), distances, Integer.MAX_VALUE);
+        }
+        else if(solver instanceof LeeRoutingAlgorithm s){
+            //The cells that were not reached have 0 distance
+            drawDistances(g2d, s.getStore(), s.getDistances(), 0);
+        }
+        else if(solver instanceof BfsSolver s){
+            drawVisited(g2d, s.getContext(), s::isQueued, true);
+        }
+        else if(solver instanceof DfsSolver s){
+            drawVisited(g2d, s.getContext(), s::isHead, true);
+        }
+        else if(solver instanceof RecursiveSolver s){
+            drawVisited(g2d, s.getContext(), s::isHead, true);
+        }
+        else if(solver instanceof DeadEndFillingSolver s){
+            //The filled dead ends are drawn green, instead of the path
+            drawVisited(g2d, s.getContext(), s::isDeadEnd, false);
+        }
+        else if(solver instanceof TremauxSolver s){
+            drawMarkings(g2d, s);
+        }
+        else if(solver instanceof WallFollower s){
+            drawPath(g2d, s.getPath());
+        }
+    }
+
+    /**
+     * Writes the distance of each reached cell from the entrance, colored by how far it is.
+     * @param g2d Graphics object used to draw.
+     * @param store the store of the maze
+     * @param distances the distances of the cells
+     * @param unreached the distance of the cells that were not reached
+     */
+    private static void drawDistances(Graphics2D g2d, GridStore store, int[] distances, int unreached){
+        if (store == null || distances == null)
+            return;
+        g2d.setFont(new Font("default", Font.BOLD, 12));
+        g2d.setColor(Color.DARK_GRAY);
+        int offset = MazeMainPanel.getOffset();
+        int dim = store.getWidth() + store.getHeight();
+        for (int row = 0; row < store.getHeight(); row++) {
+            for (int column = 0; column < store.getWidth(); column++) {
+                int dist = distances[store.index(column,row)];
+                if (dist != unreached) {
+                    if (dist > dim * 4 / 5)
+                        g2d.setColor(Color.RED);
+                    else if (dist > dim * 3 / 5) {
+                        g2d.setColor(Color.ORANGE);
+                    } else if (dist > dim * 2 / 5) {
+                        g2d.setColor(Color.YELLOW);
+                    } else {
+                        g2d.setColor(Color.green);
+                    }
+                    g2d.drawString(Integer.toString(dist), (offset) * (column) + offset / 2 - 5, (offset) * (row) + offset / 2 + 3);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the passages of the visited cells. The highlighted cells are red, or green if the path is not drawn,
+     * the cells of the path are green, the others are dark gray.
+     * @param g2d Graphics object used to draw.
+     * @param context the state of the solution, or null
+     * @param highlighted tells whether a cell is highlighted
+     * @param drawPath whether the cells of the path are drawn green
+     */
+    private static void drawVisited(Graphics2D g2d, SolveContext context, IntPredicate highlighted, boolean drawPath){
+        if (context == null)
+            return;
+        GridStore store=context.getStore();
+        g2d.setColor(Color.DARK_GRAY);
+        int borderSize = MazeMainPanel.getBorderSize();
+        int offset = MazeMainPanel.getOffset();
+        for (int row = 0; row < store.getHeight(); row++) {
+            for (int column = 0; column < store.getWidth(); column++) {
+                int idx=store.index(column,row);
+                if (context.isVisited(idx)) {
+                    if (drawPath && context.isOnPath(idx))
+                        g2d.setColor(Color.GREEN);
+                    else if(highlighted.test(idx))
+                        g2d.setColor(drawPath ? Color.RED : Color.GREEN);
+                    else
+                        g2d.setColor(Color.DARK_GRAY);
+                    int walls = store.getWalls(idx);
+                    if ((walls & 0x1) == 0x1) {
+                        g2d.fillRect(offset * column+borderSize, (offset) * (row), offset - borderSize, offset);
+                    }
+                    if ((walls & 0x2) == 0x2) {
+                        g2d.fillRect(offset * column + borderSize, (offset) * (row) + borderSize, offset, offset - borderSize);
+                    }
+                    if ((walls & 0x4) == 0x4) {
+                        g2d.fillRect(offset * column +borderSize, (offset) * (row)+borderSize, offset - borderSize, offset);
+                    }
+                    if ((walls & 0x8) == 0x8) {
+                        g2d.fillRect(offset * column, (offset) * (row) + borderSize, offset, offset - borderSize);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the markings of the Tremaux algorithm, and the cell it is standing on.
+     * @param g2d Graphics object used to draw.
+     * @param solver the solver
+     */
+    private static void drawMarkings(Graphics2D g2d, TremauxSolver solver){
+        TremauxSolver.MarkedCell[][] cells=solver.getCells();
+        TremauxSolver.MarkedCell current=solver.getCurrent();
+        if(cells==null)
+            return;
+        g2d.setStroke(new BasicStroke(5));
+        int offset=MazeMainPanel.getOffset();
+        for (int row = 0; row < cells.length; row++) {
+            for (int column = 0; column < cells[0].length; column++) {
+                if (cells[row][column].getMarking() > 0 || cells[row][column].equals(current)) {
+                    if (cells[row][column].equals(current))
+                        g2d.setColor(Color.RED);
+                    else if (cells[row][column].getMarking() == 1)
+                        g2d.setColor(Color.green);
+                    else if (cells[row][column].getMarking() == 2)
+                        g2d.setColor(Color.black);
+                    g2d.fillOval(column * offset + offset / 2- offset/6, row * offset + offset / 2-offset/6, offset / 3, offset / 3);
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the path that the wall follower walked so far.
+     * @param g2d Graphics object used to draw.
+     * @param path the cells of the path
+     */
+    private static void drawPath(Graphics2D g2d, Queue<MazeCell> path){
+        if (path.size() > 0) {
+            int offset = MazeMainPanel.getOffset();
+            g2d.setColor(new Color(0, 255, 0));
+            g2d.setStroke(new BasicStroke(5));
+            Queue<MazeCell> currentPath = new LinkedList<>(path);
+            MazeCell last = currentPath.peek();
+            GeneralPath gpath = new GeneralPath(GeneralPath.WIND_EVEN_ODD);
+
+            gpath.moveTo( offset/2, offset/2);
+            while (currentPath.size() > 0) {
+                MazeCell current = currentPath.poll();
+                gpath.lineTo(current.getX() * offset + offset/2, current.getY() * offset +offset/2);
+                if (currentPath.size() == 1)
+                    last = currentPath.peek();
+            }
+            g2d.draw(gpath);
+            g2d.setColor(Color.RED);
+            g2d.fillOval(last.getX() * offset + offset / 2  - offset / 6, last.getY() * offset + offset / 2 - offset / 6, offset / 3, offset / 3);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+import Maze.Maze;
+import MazeApplicationUI.MazeMainPanel;
+import MazeApplicationUI.SolverPainter;
+import MazeGeneratorClasses.MazeGenerator;
+import MazeGeneratorClasses.MazeType;
+import MazeSolverClasses.*;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import Maze.MazeCell;
+import Maze.MazeView;
+import Maze.PackedGridStore;
+import Maze.StepListener;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+//Tests the return values of all solvers and the methods of the AStarSolver
+public class TestSolverClasses {
+
+    Maze maze;
+    MazeMainPanel mazeMainPanel;
+    MazeGenerator g;
+
+    @Before
+    public void setUp(){
+        maze=new Maze(5,5);
+        mazeMainPanel=new MazeMainPanel(maze.getMaze(),0);
+        g=new MazeGenerator(maze.getMaze(),mazeMainPanel);
+        g.generateMaze();
+    }
+
+    //Checks all Solvers (except wall follower) and their corresponding paths
+    @Test
+    public void testPaths(){
+        AStarSolver aStarSolver=new AStarSolver(mazeMainPanel,0, AStarSolver.Heuristic.MANHATTAN_DISTANCE);
+        BfsSolver bfsSolver=new BfsSolver(mazeMainPanel,0);
+        DfsSolver dfsSolver=new DfsSolver(mazeMainPanel,0);
+        DeadEndFillingSolver deadEndFillingSolver=new DeadEndFillingSolver(mazeMainPanel,0);
+        LeeRoutingAlgorithm leeRoutingAlgorithm=new LeeRoutingAlgorithm(mazeMainPanel,0);
+        RecursiveSolver recursiveSolver=new RecursiveSolver(mazeMainPanel,0);
+        TremauxSolver tremauxSolver=new TremauxSolver(mazeMainPanel,0);
+
+        Queue<MazeCell> q1=aStarSolver.solveMaze(maze.getMaze());
+        g.setAllToUnvisited();
+        Queue<MazeCell> q2=bfsSolver.solveMaze(maze.getMaze());
+        g.setAllToUnvisited();
+        Queue<MazeCell> q3=dfsSolver.solveMaze(maze.getMaze());
+        g.setAllToUnvisited();
+        Queue<MazeCell> q4=deadEndFillingSolver.solveMaze(maze.getMaze());
+        g.setAllToUnvisited();
+        Queue<MazeCell> q5=leeRoutingAlgorithm.solveMaze(maze.getMaze());
+        g.setAllToUnvisited();
+        Queue<MazeCell> q6=recursiveSolver.solveMaze(maze.getMaze());
+        g.setAllToUnvisited();
+        Queue<MazeCell> q7=tremauxSolver.solveMaze(maze.getMaze());
+
+        Assert.assertEquals(q1.size(),q2.size());
+        Assert.assertEquals(q2.size(),q3.size());
+        Assert.assertEquals(q3.size(),q4.size());
+        Assert.assertEquals(q4.size(),q5.size());
+        Assert.assertEquals(q5.size(),q6.size());
+        Assert.assertEquals(q6.size(),q7.size());
+
+        while(!q1.isEmpty()){
+            Assert.assertEquals(q1.peek(),q2.peek());
+            Assert.assertEquals(q2.peek(),q3.peek());
+            Assert.assertEquals(q3.peek(),q4.peek());
+            Assert.assertEquals(q4.peek(),q5.peek());
+            Assert.assertEquals(q5.peek(),q6.peek());
+            Assert.assertEquals(q6.peek(),q7.peek());
+            q1.poll();
+            q2.poll();
+            q3.poll();
+            q4.poll();
+            q5.poll();
+            q6.poll();
+            q7.poll();
+
+        }
+    }
+
+    @Test
+    public void cloneAstar(){
+        AStarSolver aStarSolver=new AStarSolver(mazeMainPanel,0, AStarSolver.Heuristic.MANHATTAN_DISTANCE);
+        AStarSolver clone;
+        try {
+            clone=aStarSolver.clone();
+            clone.solveMaze(maze.getMaze());
+            aStarSolver.solveMaze(maze.getMaze());
+            Assert.assertEquals(clone.getCells().length,aStarSolver.getCells().length);
+            Assert.assertEquals(clone.getCells()[0].length,aStarSolver.getCells()[0].length);
+            Assert.assertEquals(clone.getHType(),aStarSolver.getHType());
+        } catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+
+    }
+
+    //Solves the same maze from many threads at once, every solver must find the same path
+    @Test
+    public void testConcurrentSolves() throws Exception {
+        PackedGridStore store=new PackedGridStore(24,18);
+        new MazeGenerator(store,(MazeView) null).generateMaze();
+        int[] expected=new BfsSolver(null,0).solvePath(store);
+
+        List<MazeSolver> solvers=new ArrayList<>();
+        for(int i=0;i<4;i++){
+            solvers.add(new BfsSolver(null,0));
+            solvers.add(new DfsSolver(null,0));
+            solvers.add(new RecursiveSolver(null,0));
+            solvers.add(new DeadEndFillingSolver(null,0));
+            solvers.add(new AStarSolver(null,0, AStarSolver.Heuristic.MANHATTAN_DISTANCE));
+        }
+        ExecutorService executor=Executors.newFixedThreadPool(8);
+        try{
+            List<Future<int[]>> results=new ArrayList<>();
+            for(MazeSolver solver : solvers)
+                results.add(executor.submit(() -> solver.solvePath(store)));
+            for(Future<int[]> result : results)
+                Assert.assertArrayEquals(expected,result.get());
+        }
+        finally{
+            executor.shutdown();
+        }
+    }
+
+    //One solver instance solves the same maze from many threads at once, every solve keeps its own heads in its context
+    @Test
+    public void testSharedSolverInstance() throws Exception {
+        PackedGridStore store=new PackedGridStore(24,18);
+        new MazeGenerator(store,(MazeView) null).generateMaze();
+        int[] expected=new BfsSolver(null,0).solvePath(store);
+        StepListener listener=new StepListener(){};
+
+        ExecutorService executor=Executors.newFixedThreadPool(8);
+        try{
+            for(MazeSolver solver : new MazeSolver[]{new DfsSolver(null,0), new RecursiveSolver(null,0)}){
+                solver.setStepListener(listener);
+                List<Future<int[]>> results=new ArrayList<>();
+                for(int i=0;i<8;i++)
+                    results.add(executor.submit(() -> solver.solvePath(store)));
+                for(Future<int[]> result : results)
+                    Assert.assertArrayEquals(expected,result.get());
+                //The last solve built its path, and every one of its branches removed its head when it ended
+                SolveContext context=solver instanceof DfsSolver ? ((DfsSolver) solver).getContext() : ((RecursiveSolver) solver).getContext();
+                Assert.assertTrue(context.isOnPath(store.findExit()));
+                for(int idx=0;idx<store.capacity();idx++)
+                    Assert.assertFalse(context.isHead(idx));
+            }
+        }
+        finally{
+            executor.shutdown();
+        }
+        //Without a listener the heads are not kept at all
+        SolveContext context=new SolveContext(store);
+        context.addHead(0);
+        Assert.assertFalse(context.isHead(0));
+        context=new SolveContext(store, listener);
+        context.addHead(0);
+        Assert.assertTrue(context.isHead(0));
+    }
+
+    //The painter draws the state of every solver in the middle of its solution
+    @Test
+    public void testSolverPainter(){
+        int offset=MazeMainPanel.getOffset();
+        BufferedImage image=new BufferedImage((maze.getMaze()[0].length+1)*offset, maze.getMaze().length*offset, BufferedImage.TYPE_INT_RGB);
+        List<MazeSolver> solvers=List.of(new AStarSolver(mazeMainPanel,0, AStarSolver.Heuristic.MANHATTAN_DISTANCE),
+                new BfsSolver(mazeMainPanel,0), new DfsSolver(mazeMainPanel,0), new DeadEndFillingSolver(mazeMainPanel,0),
+                new LeeRoutingAlgorithm(mazeMainPanel,0), new RecursiveSolver(mazeMainPanel,0), new TremauxSolver(mazeMainPanel,0),
+                new WallFollower(mazeMainPanel,0));
+        for(MazeSolver solver : solvers){
+            int[] painted={0};
+            solver.setStepListener(new StepListener(){
+                @Override
+                public void step(){
+                    changed();
+                }
+                @Override
+                public void changed(){
+                    Graphics graphics=image.getGraphics();
+                    SolverPainter.paint(solver, graphics);
+                    graphics.dispose();
+                    painted[0]++;
+                }
+            });
+            g.setAllToUnvisited();
+            solver.solveMaze(maze.getMaze());
+            Assert.assertTrue(solver.getClass().getSimpleName(), painted[0]>0);
+        }
+    }
+
+    //The solvers notify the listener, and they do not need a panel
+    @Test
+    public void testStepListener(){
+        int[] steps={0,0};
+        StepListener listener=new StepListener(){
+            @Override
+            public void step(){
+                steps[0]++;
+            }
+            @Override
+            public void finished(){
+                steps[1]++;
+            }
+        };
+        BfsSolver solver=new BfsSolver(null,0);
+        solver.setStepListener(listener);
+        int[] path=solver.solvePath(maze.getStore());
+        Assert.assertTrue(steps[0]>=path.length-1);
+        Assert.assertEquals(1, steps[1]);
+
+        //Every solver that works on the store tells the listener that it has finished
+        MazeSolver[] others={new DfsSolver(null,0), new RecursiveSolver(null,0), new DeadEndFillingSolver(null,0),
+                new AStarSolver(null,0,AStarSolver.Heuristic.MANHATTAN_DISTANCE), new LeeRoutingAlgorithm(null,0)};
+        for(MazeSolver other : others){
+            steps[0]=steps[1]=0;
+            other.setStepListener(listener);
+            other.solvePath(maze.getStore());
+            String name=other.getClass().getSimpleName();
+            Assert.assertTrue(name, steps[0]>0);
+            Assert.assertEquals(name, 1, steps[1]);
+        }
+
+        //A panel and a delay alone draw nothing, the UI attaches its listener, which the copy in the maze keeps
+        Assert.assertSame(StepListener.NONE, new BfsSolver(mazeMainPanel,50).stepListener());
+        maze.addSolver(solver);
+        Assert.assertSame(listener, maze.getSolver().stepListener());
+    }
+}